@@ -0,0 +1,69 @@
+package application.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import application.BatchSolver;
+import application.BoardResult;
+import application.optimalGameSolution;
+
+// Multi-threaded throughput: many JMH threads solving independent boards directly, and one thread
+// feeding a whole batch through BatchSolver. Results are in boards per second.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchThroughputBenchmark {
+
+	private static final int BATCH_SIZE = 256;
+
+	@Param({ "100", "1000" })
+	public int n;
+
+	private List<int[]> batch;
+	private BatchSolver solver;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		batch = new ArrayList<>(BATCH_SIZE);
+		for (int k = 0; k < BATCH_SIZE; k++) {
+			batch.add(Boards.create(n, Boards.Distribution.UNIFORM, k));
+		}
+		solver = new BatchSolver();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		solver.close();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public int[] concurrentScoresOnly() {
+		return optimalGameSolution.scoresOnly(batch.get((int) (Thread.currentThread().getId() % BATCH_SIZE)));
+	}
+
+	// One op = one batch of BATCH_SIZE boards
+	@Benchmark
+	public List<BoardResult> batchSolver() throws InterruptedException {
+		return solver.solveAll(batch);
+	}
+}
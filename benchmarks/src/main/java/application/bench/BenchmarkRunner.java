@@ -0,0 +1,64 @@
+package application.bench;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import application.PackedDPTable;
+
+// Runs the suite with the GC profiler and prints, next to the usual JMH output, the time per DP
+// cell and the bytes allocated per solve for every benchmark that has an `n` parameter.
+// Accepts the normal JMH command line, e.g. "ScoreOnly -p n=1000,10000 -p distribution=UNIFORM".
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		print(new Runner(options).run());
+	}
+
+	private static void print(Collection<RunResult> results) {
+		System.out.println();
+		System.out.printf("%-60s %12s %14s%n", "Benchmark", "ns/cell", "bytes/solve");
+		for (RunResult run : results) {
+			String n = run.getParams().getParam("n");
+			Mode mode = run.getParams().getMode();
+			if (n == null || mode != Mode.AverageTime && mode != Mode.SingleShotTime) {
+				continue; // Throughput benchmarks already report boards/sec
+			}
+			long cells = Math.max(PackedDPTable.cellCount(Integer.parseInt(n)), 1);
+			Result<?> primary = run.getPrimaryResult();
+			double nanos = primary.getScore() * nanosPer(primary.getScoreUnit());
+			Result<?> alloc = run.getSecondaryResults().get("gc.alloc.rate.norm");
+			StringBuilder label = new StringBuilder(
+					run.getParams().getBenchmark().replaceAll(".*\\.(\\w+\\.\\w+)$", "$1") + " n=" + n);
+			for (String key : run.getParams().getParamsKeys()) {
+				if (!key.equals("n")) { // distribution, tileSize, kernel, ...
+					label.append(' ').append(run.getParams().getParam(key));
+				}
+			}
+			System.out.printf("%-60s %12.3f %14s%n", label, nanos / cells,
+					alloc == null ? "-" : String.format("%.0f", alloc.getScore()));
+		}
+	}
+
+	private static double nanosPer(String unit) {
+		if (unit.startsWith("ns")) {
+			return 1;
+		} else if (unit.startsWith("us")) {
+			return 1e3;
+		} else if (unit.startsWith("ms")) {
+			return 1e6;
+		}
+		return 1e9;
+	}
+}
@@ -0,0 +1,60 @@
+package application.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import application.DiagonalKernel;
+import application.MarginKernel;
+import application.TiledSolver;
+
+// Cache-blocked score-only sweep (TiledSolver) against the unblocked loop order: tileSize =
+// 2147483647 is the plain diagonal-by-diagonal sweep over the same in-place array. Boards are large
+// enough that two diagonals no longer fit in L2, so a whole solve is seconds; each iteration is a
+// single shot. To see the cache-miss reduction, add the Linux perf profiler:
+//   java -jar benchmarks/target/benchmarks.jar BlockedScore -prof perfnorm
+// and compare L1-dcache-load-misses and LLC-load-misses per operation across tile sizes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BlockedScoreBenchmark {
+
+	@Param({ "100000", "300000" })
+	public int n;
+
+	@Param({ "256", "1024", "2147483647" })
+	public int tileSize;
+
+	@Param({ "SCALAR", "VECTOR" })
+	public String kernel;
+
+	private int[] coins;
+	private DiagonalKernel diagonalKernel;
+	private TiledSolver solver;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		coins = Boards.create(n, Boards.Distribution.UNIFORM, 42);
+		diagonalKernel = kernel.equals("VECTOR") ? MarginKernel.vectorized() : MarginKernel.SCALAR;
+		solver = new TiledSolver(tileSize);
+	}
+
+	@Benchmark
+	public int[] scores() {
+		return solver.scoresOnly(coins, diagonalKernel);
+	}
+}
@@ -0,0 +1,39 @@
+package application.bench;
+
+import java.util.SplittableRandom;
+
+// Seeded coin rows for the benchmarks, so every fork and every run solves the same boards
+public final class Boards {
+
+	public enum Distribution {
+		UNIFORM, // Values 1..1000
+		SKEWED, // Mostly small values with rare large ones
+		CONSTANT, // All equal: every choice ties
+		ALTERNATING // Large/small pattern that rewards parity play
+	}
+
+	private Boards() {
+	}
+
+	public static int[] create(int n, Distribution distribution, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		int[] coins = new int[n];
+		for (int i = 0; i < n; i++) {
+			switch (distribution) {
+			case UNIFORM:
+				coins[i] = random.nextInt(1, 1001);
+				break;
+			case SKEWED:
+				coins[i] = random.nextInt(100) == 0 ? random.nextInt(10_000, 100_001) : random.nextInt(1, 11);
+				break;
+			case CONSTANT:
+				coins[i] = 7;
+				break;
+			case ALTERNATING:
+				coins[i] = i % 2 == 0 ? random.nextInt(500, 1001) : random.nextInt(1, 51);
+				break;
+			}
+		}
+		return coins;
+	}
+}
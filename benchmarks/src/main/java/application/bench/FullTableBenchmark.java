@@ -0,0 +1,95 @@
+package application.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import application.GameSolverService;
+import application.MarginKernel;
+import application.MarginTable;
+import application.PackedDPTable;
+import application.ParallelWavefrontSolver;
+import application.SolvedBoard;
+import application.optimalGameSolution;
+
+// Solvers that keep the whole O(n^2) table. n stops at 10k: the nested int[n][n][2] of
+// maximumAmountOfCoins does not fit a normal heap much beyond that.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules=jdk.incubator.vector", "-Xmx4g" })
+public class FullTableBenchmark {
+
+	@Param({ "10", "100", "1000", "5000", "10000" })
+	public int n;
+
+	@Param({ "UNIFORM", "SKEWED", "CONSTANT", "ALTERNATING" })
+	public Boards.Distribution distribution;
+
+	private int[] coins;
+	private int[] firstCoins, secondCoins;
+	private ParallelWavefrontSolver parallel;
+	private GameSolverService service; // Memory cache only; the shared service also writes to disk
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		coins = Boards.create(n, distribution, 42);
+		firstCoins = new int[n];
+		secondCoins = new int[n];
+		parallel = new ParallelWavefrontSolver();
+		service = new GameSolverService(GameSolverService.DEFAULT_MAX_BYTES);
+	}
+
+	// Original entry point: margin-table solve, backtrace and the nested int[][][] adapter
+	@Benchmark
+	public int[][][] maximumAmountOfCoins() {
+		return optimalGameSolution.maximumAmountOfCoins(coins, firstCoins, secondCoins);
+	}
+
+	@Benchmark
+	public PackedDPTable packedTwoValue() {
+		return optimalGameSolution.solvePacked(coins);
+	}
+
+	@Benchmark
+	public MarginTable marginScalar() {
+		return optimalGameSolution.solveMargins(coins, MarginKernel.SCALAR);
+	}
+
+	@Benchmark
+	public MarginTable marginVector() {
+		return optimalGameSolution.solveMargins(coins, MarginKernel.vectorized());
+	}
+
+	@Benchmark
+	public MarginTable marginParallel() {
+		return parallel.solveMargins(coins);
+	}
+
+	// The DP behind PlayWithComputerScene.gameSol: a cold solve through the solver service
+	// (fresh cache every call) plus the nested table the DP screen reads
+	@Benchmark
+	public int[][][] gameSolCold() {
+		SolvedBoard board = new GameSolverService(GameSolverService.DEFAULT_MAX_BYTES).solve(coins);
+		return board.toArray();
+	}
+
+	// Same board replayed (Start / Play Again): served from the service's memory cache
+	@Benchmark
+	public SolvedBoard gameSolCached() {
+		return service.solve(coins);
+	}
+}
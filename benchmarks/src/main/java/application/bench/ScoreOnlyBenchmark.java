@@ -0,0 +1,75 @@
+package application.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import application.IncrementalGameSolver;
+import application.MarginKernel;
+import application.ParallelWavefrontSolver;
+import application.ParityFastPath;
+import application.optimalGameSolution;
+
+// O(n)-memory modes, which scale to the largest boards
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ScoreOnlyBenchmark {
+
+	@Param({ "10", "100", "1000", "10000", "50000" })
+	public int n;
+
+	@Param({ "UNIFORM", "SKEWED", "CONSTANT", "ALTERNATING" })
+	public Boards.Distribution distribution;
+
+	private int[] coins;
+	private ParallelWavefrontSolver parallel;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		coins = Boards.create(n, distribution, 42);
+		parallel = new ParallelWavefrontSolver();
+	}
+
+	@Benchmark
+	public int[] scoresScalar() {
+		return optimalGameSolution.scoresOnly(coins, MarginKernel.SCALAR);
+	}
+
+	@Benchmark
+	public int[] scoresVector() {
+		return optimalGameSolution.scoresOnly(coins, MarginKernel.vectorized());
+	}
+
+	@Benchmark
+	public int[] scoresParallel() {
+		return parallel.scoresOnly(coins);
+	}
+
+	@Benchmark
+	public int[] scoresIncremental() {
+		IncrementalGameSolver solver = new IncrementalGameSolver();
+		solver.append(coins);
+		return solver.scores();
+	}
+
+	// Not a DP: the O(n) bounds shown before the exact answer
+	@Benchmark
+	public ParityFastPath.Result parityBounds() {
+		return ParityFastPath.evaluate(coins);
+	}
+}
@@ -0,0 +1,147 @@
+package application;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Solves many independent boards concurrently. Each board uses the O(n)-memory score-only solver,
+// and at most maxInFlight boards are queued or running at once: the submitting thread blocks until
+// a slot frees up, so a large or endless stream never piles up in memory. Safe to share between
+// threads; throughput counters cover every batch run on this instance.
+public class BatchSolver implements AutoCloseable {
+
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final int maxInFlight;
+
+	private final LongAdder boardsSolved = new LongAdder();
+	private final LongAdder cellsSolved = new LongAdder();
+	private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong lastFinish = new AtomicLong(Long.MIN_VALUE);
+
+	// Virtual threads when the JDK has them (21+), otherwise one platform thread per core
+	public BatchSolver() {
+		this(defaultExecutor(), 2 * Runtime.getRuntime().availableProcessors(), true);
+	}
+
+	// Runs on the caller's executor, which the caller keeps ownership of
+	public BatchSolver(ExecutorService executor, int maxInFlight) {
+		this(executor, maxInFlight, false);
+	}
+
+	private BatchSolver(ExecutorService executor, int maxInFlight, boolean ownsExecutor) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+		}
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	// Results in the same order as the boards, as an unmodifiable list
+	public List<BoardResult> solveAll(Collection<int[]> boards) throws InterruptedException {
+		BoardResult[] results = new BoardResult[boards.size()];
+		solve(boards.stream(), result -> results[(int) result.getIndex()] = result);
+		return Collections.unmodifiableList(Arrays.asList(results));
+	}
+
+	// Streams results to the sink as boards finish (any order, called from worker threads).
+	// Returns once every board has been solved. The first failure stops further submissions and is
+	// rethrown once the boards in flight have drained: an Error as it is, anything else wrapped.
+	public void solve(Stream<int[]> boards, Consumer<BoardResult> sink) throws InterruptedException {
+		Semaphore permits = new Semaphore(maxInFlight);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		firstStart.accumulateAndGet(System.nanoTime(), Math::min);
+
+		long index = 0;
+		Iterator<int[]> it = boards.iterator();
+		while (it.hasNext() && failure.get() == null) {
+			int[] board = it.next();
+			long boardIndex = index++;
+			permits.acquire(); // Backpressure: wait for a free slot
+			try {
+				executor.execute(() -> {
+					try {
+						sink.accept(solveOne(boardIndex, board));
+					} catch (Throwable e) { // Errors too, or the batch would return null results
+						failure.compareAndSet(null, e);
+					} finally {
+						permits.release();
+					}
+				});
+			} catch (RuntimeException e) {
+				permits.release(); // Rejected by the executor
+				throw e;
+			}
+		}
+		permits.acquire(maxInFlight); // Wait for the tail of the batch
+		permits.release(maxInFlight);
+		lastFinish.accumulateAndGet(System.nanoTime(), Math::max);
+
+		Throwable cause = failure.get();
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		if (cause != null) {
+			throw new IllegalStateException("Batch solve failed", cause);
+		}
+	}
+
+	private BoardResult solveOne(long index, int[] board) {
+		int[] scores = optimalGameSolution.scoresOnly(board);
+		boardsSolved.increment();
+		cellsSolved.add(PackedDPTable.cellCount(board.length));
+		return new BoardResult(index, board.length, scores[0], scores[1]);
+	}
+
+	public long getBoardsSolved() {
+		return boardsSolved.sum();
+	}
+
+	public long getCellsSolved() {
+		return cellsSolved.sum();
+	}
+
+	// Boards per second between the start of the first batch and the end of the last one
+	public double getBoardsPerSecond() {
+		return perSecond(boardsSolved.sum());
+	}
+
+	public double getCellsPerSecond() {
+		return perSecond(cellsSolved.sum());
+	}
+
+	private double perSecond(long count) {
+		long elapsed = lastFinish.get() - firstStart.get();
+		return elapsed <= 0 ? 0 : count * 1e9 / elapsed;
+	}
+
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	private static ExecutorService defaultExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+				Thread thread = new Thread(task, "batch-solver");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
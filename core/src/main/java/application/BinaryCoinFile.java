@@ -0,0 +1,163 @@
+package application;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Compact binary coin-set format. All fields are little-endian:
+//
+//   offset  size  field
+//        0     4  magic "OGCS"
+//        4     2  format version (1)
+//        6     1  value width in bytes: 1 or 2 (unsigned) or 4 (signed int, never negative)
+//        7     1  reserved, 0
+//        8     4  number of coins
+//       12     4  CRC32C of the payload
+//       16     *  count * width bytes of packed coin values
+//
+// Files are read through a memory map (see MappedCoinSet), so loading costs one bulk copy of the
+// payload into the coin array instead of parsing text.
+public class BinaryCoinFile {
+
+	public static final int MAGIC = 0x5343474F; // "OGCS" read as a little-endian int
+	public static final int VERSION = 1;
+	public static final int HEADER_BYTES = 16;
+
+	private BinaryCoinFile() {
+	}
+
+	// Writes with the narrowest width that holds every value
+	public static void write(Path path, int[] coins) throws IOException {
+		write(path, coins, narrowestWidth(coins));
+	}
+
+	public static void write(Path path, int[] coins, int width) throws IOException {
+		checkWidth(width, coins);
+		long payloadBytes = (long) coins.length * width;
+		if (HEADER_BYTES + payloadBytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many coins for one binary coin file: " + coins.length);
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ)) {
+			MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + payloadBytes);
+			out.order(ByteOrder.LITTLE_ENDIAN);
+			out.position(HEADER_BYTES);
+			for (int coin : coins) {
+				if (width == 1) {
+					out.put((byte) coin);
+				} else if (width == 2) {
+					out.putShort((short) coin);
+				} else {
+					out.putInt(coin);
+				}
+			}
+			CRC32C crc = new CRC32C();
+			crc.update(out.duplicate().position(HEADER_BYTES).limit(HEADER_BYTES + (int) payloadBytes));
+
+			out.position(0);
+			out.putInt(MAGIC);
+			out.putShort((short) VERSION);
+			out.put((byte) width);
+			out.put((byte) 0);
+			out.putInt(coins.length);
+			out.putInt((int) crc.getValue());
+			out.force();
+		}
+	}
+
+	public static MappedCoinSet read(File file) throws IOException {
+		return read(file, true);
+	}
+
+	// Maps the file and validates the header; verifyChecksum costs one pass over the payload
+	public static MappedCoinSet read(File file, boolean verifyChecksum) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_BYTES) {
+				throw new CoinFileFormatException("Binary coin file is too short for its header.");
+			}
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt(0) != MAGIC) {
+				throw new CoinFileFormatException("Not a binary coin file (bad magic number).");
+			}
+			int version = header.getShort(4) & 0xFFFF;
+			if (version != VERSION) {
+				throw new CoinFileFormatException("Unsupported binary coin file version " + version + ".");
+			}
+			int width = header.get(6);
+			int count = header.getInt(8);
+			int checksum = header.getInt(12);
+			if ((width != 1 && width != 2 && width != 4) || count < 0) {
+				throw new CoinFileFormatException("Corrupt binary coin file header.");
+			}
+			long payloadBytes = (long) count * width;
+			if (size != HEADER_BYTES + payloadBytes || payloadBytes > Integer.MAX_VALUE) {
+				throw new CoinFileFormatException("Binary coin file size does not match its coin count (" + count + ").");
+			}
+			ByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, payloadBytes)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			if (verifyChecksum) {
+				CRC32C crc = new CRC32C();
+				crc.update(payload.duplicate());
+				if ((int) crc.getValue() != checksum) {
+					throw new CoinFileFormatException("Binary coin file checksum mismatch; the file is damaged.");
+				}
+			}
+			if (width == 4) { // Narrower widths are unsigned; coins are non-negative in both formats
+				IntBuffer values = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+				for (int i = 0; i < count; i++) {
+					if (values.get(i) < 0) {
+						throw new CoinFileFormatException("Negative coin value " + values.get(i) + " at coin " + i + ".");
+					}
+				}
+			}
+			return new MappedCoinSet(payload, count, width); // The mapping outlives the channel
+		}
+	}
+
+	// True when the file starts with the binary magic number
+	public static boolean isBinary(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			while (magic.hasRemaining() && channel.read(magic) >= 0) {
+				// Keep reading until four bytes arrived or the file ended
+			}
+			return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+		}
+	}
+
+	static int narrowestWidth(int[] coins) {
+		int width = 1;
+		for (int coin : coins) {
+			if (coin > 0xFFFF) {
+				return 4;
+			}
+			if (coin > 0xFF) {
+				width = 2;
+			}
+		}
+		return width;
+	}
+
+	private static void checkWidth(int width, int[] coins) {
+		if (width != 1 && width != 2 && width != 4) {
+			throw new IllegalArgumentException("Value width must be 1, 2 or 4 bytes: " + width);
+		}
+		for (int coin : coins) {
+			if (coin < 0) {
+				throw new IllegalArgumentException("Coin values must be non-negative: " + coin);
+			}
+		}
+		if (width < 4 && narrowestWidth(coins) > width) {
+			throw new IllegalArgumentException("Coin values do not fit in " + width + " byte(s)");
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package application;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Reproducible random boards. A board is cut into fixed chunks and every chunk gets its own
+// SplittableRandom derived from (seed, chunk index), so the same seed gives the same coins
+// whether the chunks are filled in parallel, one after another, or streamed.
+public class BoardGenerator {
+
+	public static final int CHUNK_SIZE = 1 << 16;
+
+	public enum Distribution {
+		UNIFORM, // Every value in [min, max] equally likely
+		SKEWED, // Mostly values from the bottom tenth of the range, about 1 in 100 from the top tenth
+		PARITY_TRAP; // Odd indices large, even indices small, with occasional even-index bait at max
+
+		// Accepts the enum name or its lower-case, hyphenated form ("parity-trap")
+		public static Distribution parse(String name) {
+			return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+		}
+
+		@Override
+		public String toString() {
+			return name().toLowerCase(Locale.ROOT).replace('_', '-');
+		}
+	}
+
+	private final Distribution distribution;
+	private final int min;
+	private final int max;
+	private final long seed;
+
+	public BoardGenerator(Distribution distribution, int min, int max, long seed) {
+		if (min > max) {
+			throw new IllegalArgumentException("min " + min + " is greater than max " + max);
+		}
+		this.distribution = distribution;
+		this.min = min;
+		this.max = max;
+		this.seed = seed;
+	}
+
+	public Distribution getDistribution() {
+		return distribution;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	// Fills a new array, chunks in parallel once there is more than one
+	public int[] generate(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Negative coin count: " + n);
+		}
+		int[] coins = new int[n];
+		int chunks = chunkCount(n);
+		IntStream indices = IntStream.range(0, chunks);
+		(chunks > 1 ? indices.parallel() : indices).forEach(k -> fillChunk(coins, k));
+		return coins;
+	}
+
+	// The same coins as generate(n), produced one chunk at a time, e.g. straight into
+	// IncrementalGameSolver.append(IntStream) without holding the whole board twice
+	public IntStream stream(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Negative coin count: " + n);
+		}
+		return IntStream.range(0, chunkCount(n)).flatMap(k -> {
+			int from = k * CHUNK_SIZE;
+			int[] chunk = new int[Math.min(CHUNK_SIZE, n - from)];
+			fill(chunk, 0, chunk.length, from, chunkRandom(k));
+			return Arrays.stream(chunk);
+		});
+	}
+
+	private static int chunkCount(int n) {
+		return (int) (((long) n + CHUNK_SIZE - 1) / CHUNK_SIZE);
+	}
+
+	private void fillChunk(int[] coins, int k) {
+		int from = k * CHUNK_SIZE;
+		fill(coins, from, Math.min(coins.length, from + CHUNK_SIZE), from, chunkRandom(k));
+	}
+
+	// Independent of the order chunks are filled in
+	private SplittableRandom chunkRandom(int k) {
+		return new SplittableRandom(new SplittableRandom(seed + k).nextLong());
+	}
+
+	// coins[from .. to) get the values for board indices starting at firstIndex
+	private void fill(int[] coins, int from, int to, int firstIndex, SplittableRandom random) {
+		long span = (long) max - min + 1;
+		switch (distribution) {
+		case UNIFORM:
+			for (int i = from; i < to; i++) {
+				coins[i] = (int) (min + random.nextLong(span));
+			}
+			break;
+		case SKEWED:
+			long tenth = Math.max(1, span / 10);
+			for (int i = from; i < to; i++) {
+				coins[i] = random.nextInt(100) == 0
+						? (int) (max - random.nextLong(tenth))
+						: (int) (min + random.nextLong(tenth));
+			}
+			break;
+		case PARITY_TRAP:
+			long quarter = Math.max(1, span / 4);
+			for (int i = from; i < to; i++) {
+				boolean odd = ((firstIndex + i - from) & 1) != 0;
+				if (odd) {
+					coins[i] = (int) (max - random.nextLong(quarter));
+				} else if (random.nextInt(8) == 0) {
+					coins[i] = max; // Bait: beats the neighbouring large coins and pulls greedy off the odd side
+				} else {
+					coins[i] = (int) (min + random.nextLong(quarter));
+				}
+			}
+			break;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package application;
+
+// Immutable result of one board solved by BatchSolver
+public final class BoardResult {
+
+	private final long index; // Position of the board in the submitted batch
+	private final int coins;
+	private final int firstScore;
+	private final int secondScore;
+
+	BoardResult(long index, int coins, int firstScore, int secondScore) {
+		this.index = index;
+		this.coins = coins;
+		this.firstScore = firstScore;
+		this.secondScore = secondScore;
+	}
+
+	public long getIndex() {
+		return index;
+	}
+
+	public int getCoins() {
+		return coins;
+	}
+
+	public int getFirstScore() {
+		return firstScore;
+	}
+
+	public int getSecondScore() {
+		return secondScore;
+	}
+
+	@Override
+	public String toString() {
+		return "Board " + index + " (" + coins + " coins): " + firstScore + " / " + secondScore;
+	}
+}
@@ -0,0 +1,25 @@
+package application;
+
+import java.io.IOException;
+
+// Thrown by CoinFileParser when a coin file is readable but not in the expected format.
+// The message is meant to be shown to the user as is and starts with the offending line number.
+public class CoinFileFormatException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long lineNumber; // 1-based, 0 when the problem is not tied to one line
+
+	public CoinFileFormatException(String message) {
+		this(message, 0);
+	}
+
+	public CoinFileFormatException(String message, long lineNumber) {
+		super(lineNumber > 0 ? "Line " + lineNumber + ": " + message : message);
+		this.lineNumber = lineNumber;
+	}
+
+	public long getLineNumber() {
+		return lineNumber;
+	}
+}
@@ -0,0 +1,151 @@
+package application;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Reads the coin file format used by "From File": the first line is the (even) number of coins,
+// followed by one non-negative integer coin value per line. Lines after the declared count are ignored,
+// and both \n and \r\n line endings are accepted.
+// Files are memory-mapped and decoded byte by byte straight into the int[]: no per-line Strings,
+// no regexes, and errors carry the line number.
+public class CoinFileParser {
+
+	private static final long MAP_WINDOW = 1L << 30; // Bytes mapped at a time, so huge files work too
+	private static final int STREAM_BUFFER = 1 << 16;
+	private static final int STREAM_CAPACITY = 1 << 16; // First coin array for a stream; grows as coins arrive
+
+	private CoinFileParser() {
+	}
+
+	public static int[] parse(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			Decoder decoder = new Decoder(size);
+			for (long position = 0; position < size && !decoder.done; position += MAP_WINDOW) {
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+						Math.min(MAP_WINDOW, size - position));
+				decoder.feed(window);
+			}
+			return decoder.finish();
+		}
+	}
+
+	// For stdin and other streams that cannot be mapped
+	public static int[] parse(InputStream input) throws IOException {
+		Decoder decoder = new Decoder(-1);
+		ReadableByteChannel channel = Channels.newChannel(input);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(STREAM_BUFFER);
+		while (!decoder.done && channel.read(buffer) >= 0) {
+			buffer.flip();
+			decoder.feed(buffer);
+			buffer.clear();
+		}
+		return decoder.finish();
+	}
+
+	// Line-oriented state machine; keeps its state between buffers, so a number may span two windows
+	private static final class Decoder {
+		private final long size; // Input bytes, -1 for a stream
+		private long consumed; // Input bytes before the current buffer, then up to the last line read
+		private long line = 1;
+		private long value; // Digits of the current line so far
+		private int digits;
+		private boolean carriageReturn; // Saw \r, only a \n may follow
+		private int[] coins; // Null until the first line has been read
+		private int count; // Declared in the first line
+		private int filled;
+		boolean done;
+
+		Decoder(long size) {
+			this.size = size;
+		}
+
+		void feed(ByteBuffer buffer) throws CoinFileFormatException {
+			long base = consumed - buffer.position();
+			while (buffer.hasRemaining() && !done) {
+				byte b = buffer.get();
+				if (b == '\n') {
+					consumed = base + buffer.position();
+					endLine();
+				} else if (carriageReturn) {
+					throw invalidLine();
+				} else if (b >= '0' && b <= '9') {
+					value = value * 10 + (b - '0');
+					digits++;
+					if (value > Integer.MAX_VALUE) {
+						throw coins == null ? invalidCount()
+								: new CoinFileFormatException(
+										"Invalid format in file. Please ensure it contains only numbers.", line);
+					}
+				} else if (b == '\r') {
+					carriageReturn = true;
+				} else {
+					throw invalidLine();
+				}
+			}
+			consumed = base + buffer.position();
+		}
+
+		private void endLine() throws CoinFileFormatException {
+			if (digits == 0) {
+				throw invalidLine(); // Empty line
+			}
+			if (coins == null) {
+				if (value % 2 != 0 || value > Integer.MAX_VALUE - 8) {
+					throw invalidCount();
+				}
+				// Every coin takes a digit and a newline (the last one may omit it), so a count the file
+				// cannot hold is rejected before the array is allocated. A stream's size is unknown, so
+				// its array grows as coins arrive instead.
+				if (size >= 0 && value > (size - consumed + 1) / 2) {
+					throw new CoinFileFormatException("The first line declares " + value
+							+ " coins, more than the rest of the file can hold.", 1);
+				}
+				count = (int) value;
+				coins = new int[size >= 0 ? count : Math.min(count, STREAM_CAPACITY)];
+				done = count == 0;
+			} else {
+				if (filled == coins.length) {
+					coins = Arrays.copyOf(coins, (int) Math.min(count, 2L * coins.length));
+				}
+				coins[filled++] = (int) value;
+				done = filled == count;
+			}
+			line++;
+			value = 0;
+			digits = 0;
+			carriageReturn = false;
+		}
+
+		int[] finish() throws CoinFileFormatException {
+			if (!done && (digits > 0 || carriageReturn)) {
+				endLine(); // Last line without a trailing newline; nothing follows it
+			}
+			if (coins == null) {
+				throw invalidCount();
+			}
+			if (filled < count) {
+				throw new CoinFileFormatException("The number of coins is less than the count specified in the first line ("
+						+ filled + " of " + count + ").");
+			}
+			return coins;
+		}
+
+		private CoinFileFormatException invalidLine() {
+			return coins == null ? invalidCount()
+					: new CoinFileFormatException("Invalid format: Each line should contain a number.", line);
+		}
+
+		private CoinFileFormatException invalidCount() {
+			return new CoinFileFormatException("First line must be an even integer which is the number of coins.", 1);
+		}
+	}
+}
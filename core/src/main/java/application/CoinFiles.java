@@ -0,0 +1,19 @@
+package application;
+
+import java.io.File;
+import java.io.IOException;
+
+// Loads a coin file in either format, telling them apart by the binary magic number. Each load is
+// reported to SolverMetrics for the parse throughput figures.
+public class CoinFiles {
+
+	private CoinFiles() {
+	}
+
+	public static int[] load(File file) throws IOException {
+		long start = System.nanoTime();
+		int[] coins = BinaryCoinFile.isBinary(file) ? BinaryCoinFile.read(file).toArray() : CoinFileParser.parse(file);
+		SolverMetrics.get().recordParse(file.length(), coins.length, System.nanoTime() - start);
+		return coins;
+	}
+}
@@ -0,0 +1,30 @@
+package application;
+
+// Short, bounded text for showing a board in a text field: the first coins followed by how many
+// were left out. Keeps the UI from building a multi-megabyte string for huge boards.
+public class CoinPreview {
+
+	public static final int DEFAULT_LIMIT = 50;
+
+	private CoinPreview() {
+	}
+
+	public static String format(int[] coins) {
+		return format(coins, DEFAULT_LIMIT, ",");
+	}
+
+	public static String format(int[] coins, int limit, String separator) {
+		int shown = Math.min(coins.length, limit);
+		StringBuilder preview = new StringBuilder(shown * 4 + 32);
+		for (int i = 0; i < shown; i++) {
+			if (i > 0) {
+				preview.append(separator);
+			}
+			preview.append(coins[i]);
+		}
+		if (coins.length > shown) {
+			preview.append(separator).append("... (").append(coins.length - shown).append(" more)");
+		}
+		return preview.toString();
+	}
+}
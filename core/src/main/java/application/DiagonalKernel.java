@@ -0,0 +1,10 @@
+package application;
+
+// Fills cells [from, to) of diagonal `length` of the margin table into dst, reading diagonal
+// length - 1 from src (see MarginKernel for the recurrence and the offsets). Cells are filled in
+// ascending order and each reads only itself and the next cell of src, so src and dst may be the
+// same array at the same offset (TiledSolver updates one array in place).
+public interface DiagonalKernel {
+
+	void fillDiagonal(int[] coins, int length, int[] src, int srcOffset, int[] dst, int dstOffset, int from, int to);
+}
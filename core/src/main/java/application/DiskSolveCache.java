@@ -0,0 +1,314 @@
+package application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// Solved margin tables kept on disk across runs, one file per board, named by the SHA-256 of the
+// coins. A hit maps the file read-only and wraps it in a MarginTable, so reopening a large board
+// costs a header check and one pass over the coins instead of the O(n^2) solve. The directory is
+// bounded in bytes: files are touched on every hit and the least recently used go first.
+// All fields are little-endian:
+//
+//   offset  size  field
+//        0     4  magic "OGMT"
+//        4     2  format version (1)
+//        6     2  reserved, 0
+//        8     4  number of coins n
+//       12     4  reserved, 0
+//       16    32  SHA-256 of the coins (n little-endian ints)
+//       48    4n  coins
+//   48 + 4n    4c  margins, c = n(n + 1) / 2 cells in diagonal-major order (see PackedDPTable)
+//
+// The coins are stored and compared on load, so a damaged file or a hash collision is a miss,
+// never a wrong answer. Files with another version are deleted when found. Past n = 32768 the
+// margins exceed 2GB, the most one mapping can hold, so they are mapped in 1GB windows (see
+// MarginTable.WINDOW_CELLS).
+public class DiskSolveCache {
+
+	public static final int MAGIC = 0x544D474F; // "OGMT" read as a little-endian int
+	public static final int VERSION = 1;
+	public static final int HEADER_BYTES = 48;
+	public static final String SUFFIX = ".ogmt";
+	public static final long DEFAULT_MAX_BYTES = 2L * 1024 * 1024 * 1024;
+
+	// Boards smaller than this solve faster than a file can be opened, so they are not stored
+	public static final int DEFAULT_MIN_COINS = 2048;
+
+	private final Path directory;
+	private final long maxBytes;
+	private final int minCoins;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public DiskSolveCache(Path directory, long maxBytes, int minCoins) throws IOException {
+		this.directory = Files.createDirectories(directory);
+		this.maxBytes = maxBytes;
+		this.minCoins = minCoins;
+	}
+
+	// Cache in -Doptimalgame.cache.dir (default ~/.optimal-game/cache) bounded by
+	// -Doptimalgame.cache.maxBytes; null when the directory is set to "" or cannot be created
+	public static DiskSolveCache fromSystemProperties() {
+		String dir = System.getProperty("optimalgame.cache.dir",
+				Paths.get(System.getProperty("user.home"), ".optimal-game", "cache").toString());
+		if (dir.isEmpty()) {
+			return null;
+		}
+		try {
+			return new DiskSolveCache(Paths.get(dir), Long.getLong("optimalgame.cache.maxBytes", DEFAULT_MAX_BYTES),
+					DEFAULT_MIN_COINS);
+		} catch (IOException | SecurityException e) {
+			return null; // Read-only home, sandbox: run without the disk cache
+		}
+	}
+
+	// The mapped table for these coins, or null on a miss
+	public MarginTable get(int[] coins) {
+		if (coins.length < minCoins) {
+			return null;
+		}
+		byte[] hash = sha256(coins);
+		Path file = fileFor(hash);
+		if (!Files.exists(file)) {
+			misses.increment();
+			return null;
+		}
+		try {
+			MarginTable table = map(file, coins, hash);
+			if (table == null) {
+				Files.deleteIfExists(file); // Old version or damaged
+				misses.increment();
+				return null;
+			}
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis())); // LRU order
+			hits.increment();
+			return table;
+		} catch (IOException e) {
+			misses.increment();
+			return null;
+		}
+	}
+
+	// Stores a solved table; failures only cost the next run a solve
+	public void put(MarginTable table) {
+		int[] coins = table.coins();
+		long bytes = fileBytes(coins.length);
+		if (coins.length < minCoins || bytes > maxBytes) {
+			return; // Too small to be worth it, or larger than the whole cache
+		}
+		byte[] hash = sha256(coins);
+		Path file = fileFor(hash);
+		if (Files.exists(file)) {
+			return;
+		}
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(directory, "solve", ".tmp");
+			write(temp, table, hash);
+			try {
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			temp = null;
+			evict();
+		} catch (IOException e) {
+			// Disk full or directory gone: keep running without this entry
+		} finally {
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException e) {
+					// Nothing more to do
+				}
+			}
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	// Total size of the cache files
+	public long getCachedBytes() throws IOException {
+		long total = 0;
+		for (Entry entry : entries()) {
+			total += entry.size;
+		}
+		return total;
+	}
+
+	public void clear() throws IOException {
+		for (Entry entry : entries()) {
+			Files.deleteIfExists(entry.path);
+		}
+	}
+
+	static long fileBytes(int n) {
+		return HEADER_BYTES + 4L * n + 4L * PackedDPTable.cellCount(n);
+	}
+
+	private static MarginTable map(Path file, int[] coins, byte[] hash) throws IOException {
+		int n = coins.length;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() != fileBytes(n)) {
+				return null;
+			}
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + 4L * n)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt(0) != MAGIC || (header.getShort(4) & 0xFFFF) != VERSION || header.getInt(8) != n) {
+				return null;
+			}
+			byte[] stored = new byte[32];
+			header.position(16);
+			header.get(stored);
+			if (!Arrays.equals(stored, hash)) {
+				return null;
+			}
+			IntBuffer storedCoins = header.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			if (!storedCoins.equals(IntBuffer.wrap(coins))) {
+				return null; // Same hash, different board
+			}
+			IntBuffer[] windows = new IntBuffer[MarginTable.windowCount(n)];
+			for (int w = 0; w < windows.length; w++) {
+				MappedByteBuffer cells = channel.map(FileChannel.MapMode.READ_ONLY, cellsPosition(n, w),
+						windowBytes(n, w));
+				windows[w] = cells.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer(); // Outlives the channel
+			}
+			return new MarginTable(coins, windows);
+		}
+	}
+
+	// File offset of the first cell of a window
+	private static long cellsPosition(int n, int window) {
+		return HEADER_BYTES + 4L * n + 4L * ((long) window << MarginTable.WINDOW_SHIFT);
+	}
+
+	private static long windowBytes(int n, int window) {
+		return 4L * Math.min(MarginTable.WINDOW_CELLS,
+				PackedDPTable.cellCount(n) - ((long) window << MarginTable.WINDOW_SHIFT));
+	}
+
+	private static void write(Path file, MarginTable table, byte[] hash) throws IOException {
+		int[] coins = table.coins();
+		int n = coins.length;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + 4 * n).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC);
+			header.putShort((short) VERSION);
+			header.putShort((short) 0);
+			header.putInt(n);
+			header.putInt(0);
+			header.put(hash);
+			header.asIntBuffer().put(coins);
+			header.rewind();
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+			for (int w = 0; w < MarginTable.windowCount(n); w++) {
+				MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, cellsPosition(n, w),
+						windowBytes(n, w));
+				out.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(table.cells(w));
+				out.force();
+			}
+		}
+	}
+
+	// Deletes least recently used files until the directory fits in maxBytes
+	private synchronized void evict() throws IOException {
+		List<Entry> entries = entries();
+		long total = 0;
+		for (Entry entry : entries) {
+			total += entry.size;
+		}
+		entries.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+		for (int k = 0; k < entries.size() && total > maxBytes; k++) {
+			Files.deleteIfExists(entries.get(k).path);
+			total -= entries.get(k).size;
+		}
+	}
+
+	private List<Entry> entries() throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+			for (Path file : files) {
+				try {
+					BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+					entries.add(new Entry(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+				} catch (IOException e) {
+					// Deleted by another process meanwhile
+				}
+			}
+		}
+		return entries;
+	}
+
+	private Path fileFor(byte[] hash) {
+		StringBuilder name = new StringBuilder(64 + SUFFIX.length());
+		for (byte b : hash) {
+			name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return directory.resolve(name.append(SUFFIX).toString());
+	}
+
+	// SHA-256 over the coins as little-endian ints
+	static byte[] sha256(int[] coins) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+		}
+		ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+		IntBuffer ints = chunk.asIntBuffer();
+		for (int from = 0; from < coins.length; from += ints.capacity()) {
+			int count = Math.min(ints.capacity(), coins.length - from);
+			ints.clear();
+			ints.put(coins, from, count);
+			chunk.clear().limit(count * 4);
+			digest.update(chunk);
+		}
+		return digest.digest();
+	}
+
+	private static final class Entry {
+		final Path path;
+		final long size;
+		final long lastUsed;
+
+		Entry(Path path, long size, long lastUsed) {
+			this.path = path;
+			this.size = size;
+			this.lastUsed = lastUsed;
+		}
+	}
+}
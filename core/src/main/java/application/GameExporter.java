@@ -0,0 +1,265 @@
+package application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Streams a solved board to files: the DP table, the optimal move sequence and each player's
+// coins, as CSV or as compact little-endian binary. Output goes through one reusable direct buffer
+// into a FileChannel, the table is written diagonal by diagonal in the order the solver fills it,
+// and numbers are formatted straight into the buffer, so nothing proportional to the output is
+// ever held in memory and multi-gigabyte tables are written at disk speed.
+//
+// CSV layouts (with a header line):
+//   table    i,j,first,second          one row per cell, diagonals of length 1, 2, ..., n
+//   moves    move,player,side,index,coin
+//   coins    player,order,coin
+//
+// Binary layouts share a 16-byte header: magic (4), version (2), reserved (2), coin count n (4),
+// reserved (4); everything after it is ints.
+//   table  "OGDT": n coins, then n(n + 1) / 2 margins in diagonal-major order (see PackedDPTable).
+//                  Scores follow from the margin and the subarray total, as in MarginTable.
+//   moves  "OGMV": n coin indices in the order taken; the first player takes moves 0, 2, 4, ...
+//   coins  "OGPC": first player's count and coins, then the second player's count and coins
+public class GameExporter {
+
+	public static final int TABLE_MAGIC = 0x5444474F; // "OGDT" read as a little-endian int
+	public static final int MOVES_MAGIC = 0x564D474F; // "OGMV"
+	public static final int COINS_MAGIC = 0x4350474F; // "OGPC"
+	public static final int VERSION = 1;
+	public static final int HEADER_BYTES = 16;
+
+	private static final int BUFFER_BYTES = 1 << 20;
+
+	private GameExporter() {
+	}
+
+	public static void writeTableCsv(SolvedBoard board, Path path) throws IOException {
+		int n = board.size();
+		try (Output out = new Output(path)) {
+			out.ascii("i,j,first,second\n");
+			for (int length = 1; length <= n; length++) {
+				for (int i = 0; i + length <= n; i++) {
+					int j = i + length - 1;
+					out.decimal(i).comma().decimal(j).comma().decimal(board.first(i, j)).comma()
+							.decimal(board.second(i, j)).newline();
+				}
+			}
+		}
+	}
+
+	public static void writeTableBinary(SolvedBoard board, Path path) throws IOException {
+		int n = board.size();
+		try (Output out = new Output(path)) {
+			out.header(TABLE_MAGIC, n);
+			for (int k = 0; k < n; k++) {
+				out.integer(board.coin(k));
+			}
+			for (int length = 1; length <= n; length++) {
+				for (int i = 0; i + length <= n; i++) {
+					out.integer(board.margin(i, i + length - 1));
+				}
+			}
+		}
+	}
+
+	public static void writeMovesCsv(SolvedBoard board, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.ascii("move,player,side,index,coin\n");
+			int start = 0, end = board.size() - 1;
+			for (int move = 0; start <= end; move++) {
+				boolean left = takesLeft(board, start, end);
+				int index = left ? start++ : end--;
+				out.decimal(move).comma().ascii(move % 2 == 0 ? "first" : "second").comma()
+						.ascii(left ? "left" : "right").comma().decimal(index).comma().decimal(board.coin(index))
+						.newline();
+			}
+		}
+	}
+
+	public static void writeMovesBinary(SolvedBoard board, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.header(MOVES_MAGIC, board.size());
+			int start = 0, end = board.size() - 1;
+			while (start <= end) {
+				out.integer(takesLeft(board, start, end) ? start++ : end--);
+			}
+		}
+	}
+
+	public static void writeCoinsCsv(SolvedBoard board, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.ascii("player,order,coin\n");
+			for (int player = 0; player < 2; player++) { // One pass over the moves per player
+				int start = 0, end = board.size() - 1, order = 0;
+				for (int move = 0; start <= end; move++) {
+					int index = takesLeft(board, start, end) ? start++ : end--;
+					if (move % 2 == player) {
+						out.ascii(player == 0 ? "first" : "second").comma().decimal(order++).comma()
+								.decimal(board.coin(index)).newline();
+					}
+				}
+			}
+		}
+	}
+
+	public static void writeCoinsBinary(SolvedBoard board, Path path) throws IOException {
+		int n = board.size();
+		try (Output out = new Output(path)) {
+			out.header(COINS_MAGIC, n);
+			for (int player = 0; player < 2; player++) {
+				out.integer(player == 0 ? (n + 1) / 2 : n / 2);
+				int start = 0, end = n - 1;
+				for (int move = 0; start <= end; move++) {
+					int index = takesLeft(board, start, end) ? start++ : end--;
+					if (move % 2 == player) {
+						out.integer(board.coin(index));
+					}
+				}
+			}
+		}
+	}
+
+	// The moves actually played, as coin indices in the order taken, instead of the optimal line
+	public static void writeMovesCsv(SolvedBoard board, int[] moves, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.ascii("move,player,side,index,coin\n");
+			int start = 0;
+			for (int move = 0; move < moves.length; move++) {
+				int index = moves[move];
+				boolean left = index == start;
+				if (left) {
+					start++;
+				}
+				out.decimal(move).comma().ascii(move % 2 == 0 ? "first" : "second").comma()
+						.ascii(left ? "left" : "right").comma().decimal(index).comma().decimal(board.coin(index))
+						.newline();
+			}
+		}
+	}
+
+	public static void writeMovesBinary(SolvedBoard board, int[] moves, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.header(MOVES_MAGIC, board.size());
+			for (int index : moves) {
+				out.integer(index);
+			}
+		}
+	}
+
+	public static void writeCoinsCsv(SolvedBoard board, int[] moves, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.ascii("player,order,coin\n");
+			for (int player = 0; player < 2; player++) {
+				for (int move = player, order = 0; move < moves.length; move += 2) {
+					out.ascii(player == 0 ? "first" : "second").comma().decimal(order++).comma()
+							.decimal(board.coin(moves[move])).newline();
+				}
+			}
+		}
+	}
+
+	public static void writeCoinsBinary(SolvedBoard board, int[] moves, Path path) throws IOException {
+		try (Output out = new Output(path)) {
+			out.header(COINS_MAGIC, board.size());
+			for (int player = 0; player < 2; player++) {
+				out.integer(player == 0 ? (moves.length + 1) / 2 : moves.length / 2);
+				for (int move = player; move < moves.length; move += 2) {
+					out.integer(board.coin(moves[move]));
+				}
+			}
+		}
+	}
+
+	// Same tie-break as the game screens and optimalGameSolution.backtrace: left when it is optimal
+	private static boolean takesLeft(SolvedBoard board, int start, int end) {
+		return start == end || board.coin(start) - board.margin(start + 1, end) == board.margin(start, end);
+	}
+
+	// Buffered writer over a FileChannel; numbers are encoded in place, without Strings
+	private static final class Output implements AutoCloseable {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		private final byte[] digits = new byte[11];
+
+		Output(Path path) throws IOException {
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		}
+
+		void header(int magic, int n) throws IOException {
+			integer(magic);
+			ensure(4);
+			buffer.putShort((short) VERSION);
+			buffer.putShort((short) 0);
+			integer(n);
+			integer(0);
+		}
+
+		void integer(int value) throws IOException {
+			ensure(4);
+			buffer.putInt(value);
+		}
+
+		Output ascii(String text) throws IOException {
+			ensure(text.length());
+			for (int k = 0; k < text.length(); k++) {
+				buffer.put((byte) text.charAt(k));
+			}
+			return this;
+		}
+
+		Output decimal(int value) throws IOException {
+			ensure(digits.length);
+			long v = value;
+			if (v < 0) {
+				buffer.put((byte) '-');
+				v = -v;
+			}
+			int k = digits.length;
+			do {
+				digits[--k] = (byte) ('0' + v % 10);
+				v /= 10;
+			} while (v != 0);
+			buffer.put(digits, k, digits.length - k);
+			return this;
+		}
+
+		Output comma() throws IOException {
+			ensure(1);
+			buffer.put((byte) ',');
+			return this;
+		}
+
+		void newline() throws IOException {
+			ensure(1);
+			buffer.put((byte) '\n');
+		}
+
+		private void ensure(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				drain();
+			}
+		}
+
+		private void drain() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				drain();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+}
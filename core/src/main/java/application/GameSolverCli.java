@@ -0,0 +1,189 @@
+package application;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// Headless entry point for shell pipelines and compute nodes. Reads coin files in the "From File"
+// format (or stdin) and writes one tab-separated line per board:
+//   <source> <coins> <firstPlayerScore> <secondPlayerScore>
+// With --moves, the first and second player's coins (in the order taken) are appended; that needs
+// the full O(n^2) table, while plain scores use the O(n)-memory solver.
+// Touches no JavaFX and no thread pools, so the JVM starts and exits quickly.
+public class GameSolverCli {
+
+	private static final String USAGE = "Usage: java -jar optimal-game-core.jar [--moves] [file | -]...\n"
+			+ "       java -jar optimal-game-core.jar --convert <text file> <binary file>\n"
+			+ "       java -jar optimal-game-core.jar --random <count> [seed [uniform|skewed|parity-trap]]\n"
+			+ "       java -jar optimal-game-core.jar --export <csv|binary> <coin file> <output prefix>\n"
+			+ "Reads coin files, text (first line: even number of coins, then one coin per line) or binary.\n"
+			+ "With no files, or \"-\", reads text from standard input.";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length > 0 && args[0].equals("--convert")) {
+			convert(args);
+			return;
+		}
+		if (args.length > 0 && args[0].equals("--random")) {
+			random(args);
+			return;
+		}
+		if (args.length > 0 && args[0].equals("--export")) {
+			export(args);
+			return;
+		}
+		boolean moves = false;
+		List<String> sources = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.equals("--moves")) {
+				moves = true;
+			} else if (arg.equals("-h") || arg.equals("--help")) {
+				System.out.println(USAGE);
+				return;
+			} else if (arg.startsWith("--")) {
+				System.err.println("Unknown option: " + arg);
+				System.err.println(USAGE);
+				System.exit(2);
+			} else {
+				sources.add(arg);
+			}
+		}
+		if (sources.isEmpty()) {
+			sources.add("-");
+		}
+
+		int failures = 0;
+		Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+		for (String source : sources) {
+			int[] coins;
+			try {
+				coins = source.equals("-")
+						? CoinFileParser.parse(System.in)
+						: CoinFiles.load(new File(source)); // Text or binary
+			} catch (IOException e) {
+				out.flush();
+				System.err.println(source + ": " + e.getMessage());
+				failures++;
+				continue;
+			}
+			writeResult(out, source, coins, moves);
+		}
+		out.flush();
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+
+	// One-off conversion of a text coin file into the binary format (see BinaryCoinFile)
+	private static void convert(String[] args) throws IOException {
+		if (args.length != 3) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		try {
+			int[] coins = CoinFiles.load(new File(args[1]));
+			BinaryCoinFile.write(new File(args[2]).toPath(), coins);
+		} catch (CoinFileFormatException e) {
+			System.err.println(args[1] + ": " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	// Writes <prefix>-table, <prefix>-moves and <prefix>-coins (.csv or .bin, see GameExporter)
+	private static void export(String[] args) throws IOException {
+		if (args.length != 4 || !(args[1].equals("csv") || args[1].equals("binary"))) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		boolean csv = args[1].equals("csv");
+		SolvedBoard board;
+		try {
+			int[] loaded = CoinFiles.load(new File(args[2]));
+			board = new SolvedBoard(loaded, optimalGameSolution.solveMargins(loaded), false); // One-shot: no cache
+		} catch (CoinFileFormatException e) {
+			System.err.println(args[2] + ": " + e.getMessage());
+			System.exit(1);
+			return;
+		}
+		String extension = csv ? ".csv" : ".bin";
+		Path table = Paths.get(args[3] + "-table" + extension);
+		Path moves = Paths.get(args[3] + "-moves" + extension);
+		Path coins = Paths.get(args[3] + "-coins" + extension);
+		if (csv) {
+			GameExporter.writeTableCsv(board, table);
+			GameExporter.writeMovesCsv(board, moves);
+			GameExporter.writeCoinsCsv(board, coins);
+		} else {
+			GameExporter.writeTableBinary(board, table);
+			GameExporter.writeMovesBinary(board, moves);
+			GameExporter.writeCoinsBinary(board, coins);
+		}
+	}
+
+	// Scores a generated board; coins go from the generator straight into the incremental solver
+	private static void random(String[] args) throws IOException {
+		if (args.length < 2 || args.length > 4) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		BoardGenerator generator;
+		int count;
+		try {
+			count = Integer.parseInt(args[1]);
+			long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+			BoardGenerator.Distribution distribution = args.length > 3
+					? BoardGenerator.Distribution.parse(args[3])
+					: BoardGenerator.Distribution.UNIFORM;
+			generator = new BoardGenerator(distribution, 1, 1000, seed);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+			return;
+		}
+		IncrementalGameSolver solver = new IncrementalGameSolver();
+		solver.append(generator.stream(count));
+		int[] scores = solver.scores();
+		Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+		out.write("random:" + generator.getDistribution() + ":" + generator.getSeed() + '\t' + count + '\t'
+				+ scores[0] + '\t' + scores[1] + '\n');
+		out.flush();
+	}
+
+	private static void writeResult(Writer out, String source, int[] coins, boolean moves) throws IOException {
+		out.write(source.equals("-") ? "stdin" : source);
+		out.write('\t');
+		out.write(Integer.toString(coins.length));
+		if (!moves || coins.length == 0) {
+			int[] scores = optimalGameSolution.scoresOnly(coins);
+			out.write('\t' + Integer.toString(scores[0]) + '\t' + scores[1] + '\n');
+			return;
+		}
+		int[] firstCoins = new int[coins.length];
+		int[] secondCoins = new int[coins.length];
+		MarginTable table = optimalGameSolution.solveMargins(coins);
+		optimalGameSolution.backtrace(table, firstCoins, secondCoins);
+		out.write('\t' + Integer.toString(table.first(0, coins.length - 1)) + '\t'
+				+ table.second(0, coins.length - 1));
+		writeCoins(out, firstCoins, (coins.length + 1) / 2);
+		writeCoins(out, secondCoins, coins.length / 2);
+		out.write('\n');
+	}
+
+	private static void writeCoins(Writer out, int[] values, int count) throws IOException {
+		out.write('\t');
+		for (int k = 0; k < count; k++) {
+			if (k > 0) {
+				out.write(',');
+			}
+			out.write(Integer.toString(values[k]));
+		}
+	}
+}
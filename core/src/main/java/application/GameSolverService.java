@@ -0,0 +1,198 @@
+package application;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Single entry point for solving boards from the scenes. Solved margin tables are kept in a
+// bounded LRU cache keyed by the board content; a board and its reverse share one entry. Repeated
+// solves of the same board (Start, Play Again, switching screens) only cost the key lookup.
+// Behind it an optional DiskSolveCache keeps large tables across runs, so reopening a file maps
+// the stored table instead of solving it again.
+public class GameSolverService {
+
+	public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+	private static GameSolverService shared; // Guarded by the class; created on first use
+
+	private final long maxBytes;
+	private final DiskSolveCache disk; // Null when running without the disk cache
+	private final LinkedHashMap<BoardKey, MarginTable> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private long cachedBytes;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder diskHits = new LongAdder(); // Memory misses served by the disk cache
+	private final LongAdder misses = new LongAdder(); // Solved from scratch
+
+	public GameSolverService(long maxBytes) {
+		this(maxBytes, null);
+	}
+
+	public GameSolverService(long maxBytes, DiskSolveCache disk) {
+		this.maxBytes = maxBytes;
+		this.disk = disk;
+	}
+
+	// Service shared by all scenes, so solved boards survive screen changes. Created on first use,
+	// since that also sets up the disk cache directory.
+	public static synchronized GameSolverService shared() {
+		if (shared == null) {
+			shared = new GameSolverService(DEFAULT_MAX_BYTES, DiskSolveCache.fromSystemProperties());
+		}
+		return shared;
+	}
+
+	// The shared service, or null if nothing has asked for it yet
+	static synchronized GameSolverService sharedIfCreated() {
+		return shared;
+	}
+
+	public SolvedBoard solve(int[] coins) {
+		return solve(coins, SolveProgress.NONE);
+	}
+
+	// Same, reporting progress of a cache miss; a cancelled solve throws CancellationException and
+	// leaves nothing in the cache
+	public SolvedBoard solve(int[] coins, SolveProgress progress) {
+		int[] board = coins.clone();
+		boolean reversed = compareWithReverse(board) > 0; // Store the lexicographically smaller side
+		BoardKey key = new BoardKey(reversed ? reverse(board) : board);
+
+		MarginTable table;
+		synchronized (this) {
+			table = cache.get(key);
+		}
+		if (table != null) {
+			hits.increment();
+			return new SolvedBoard(board, table, reversed);
+		}
+		table = disk == null ? null : disk.get(key.coins);
+		if (table != null) {
+			diskHits.increment();
+		} else {
+			misses.increment();
+			table = optimalGameSolution.solveMargins(key.coins, MarginKernel.vectorized(), progress);
+			if (disk != null) {
+				disk.put(table);
+			}
+		}
+		store(key, table);
+		return new SolvedBoard(board, table, reversed);
+	}
+
+	private synchronized void store(BoardKey key, MarginTable table) {
+		long bytes = tableBytes(table);
+		if (bytes > maxBytes || cache.containsKey(key)) {
+			return; // Too large to cache, or another thread got there first
+		}
+		cache.put(key, table);
+		cachedBytes += bytes;
+		Iterator<Map.Entry<BoardKey, MarginTable>> eldest = cache.entrySet().iterator();
+		while (cachedBytes > maxBytes && eldest.hasNext()) {
+			cachedBytes -= tableBytes(eldest.next().getValue());
+			eldest.remove();
+		}
+	}
+
+	// A mapped table keeps its margins in the page cache, not on the heap
+	private static long tableBytes(MarginTable table) {
+		int n = table.size();
+		return table.isMapped() ? tableBytes(n) - PackedDPTable.cellCount(n) * Integer.BYTES : tableBytes(n);
+	}
+
+	// Approximate heap held by one cached table: margins, prefix sums and the coins
+	static long tableBytes(int n) {
+		return PackedDPTable.cellCount(n) * Integer.BYTES + (n + 1L) * Long.BYTES + (long) n * Integer.BYTES;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getDiskHits() {
+		return diskHits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	// Share of solves served by the memory cache
+	public double getHitRate() {
+		long h = hits.sum(), total = h + diskHits.sum() + misses.sum();
+		return total == 0 ? 0 : (double) h / total;
+	}
+
+	public synchronized int getCachedBoards() {
+		return cache.size();
+	}
+
+	public synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public DiskSolveCache getDiskCache() {
+		return disk;
+	}
+
+	public synchronized void clear() {
+		cache.clear();
+		cachedBytes = 0;
+	}
+
+	// < 0 when coins is smaller than its reverse, 0 for palindromes, > 0 otherwise
+	private static int compareWithReverse(int[] coins) {
+		for (int i = 0, j = coins.length - 1; i < j; i++, j--) {
+			if (coins[i] != coins[j]) {
+				return Integer.compare(coins[i], coins[j]);
+			}
+		}
+		return 0;
+	}
+
+	private static int[] reverse(int[] coins) {
+		int[] reversed = new int[coins.length];
+		for (int i = 0; i < coins.length; i++) {
+			reversed[i] = coins[coins.length - 1 - i];
+		}
+		return reversed;
+	}
+
+	// Cache key: the canonical coin array with a precomputed 64-bit content hash
+	private static final class BoardKey {
+		private final int[] coins;
+		private final long hash;
+
+		BoardKey(int[] coins) {
+			this.coins = coins;
+			long h = 0xcbf29ce484222325L; // FNV-1a over the coin values, then a final mix
+			for (int coin : coins) {
+				h = (h ^ coin) * 0x100000001b3L;
+			}
+			h ^= coins.length;
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			this.hash = h;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (hash ^ (hash >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof BoardKey)) {
+				return false;
+			}
+			BoardKey key = (BoardKey) other;
+			return hash == key.hash && Arrays.equals(coins, key.coins);
+		}
+	}
+}
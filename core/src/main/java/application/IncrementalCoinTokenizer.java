@@ -0,0 +1,182 @@
+package application;
+
+import java.util.Arrays;
+
+// Keeps a comma-separated coin list ("1,2,3") parsed while it is being edited. Tokens live in a
+// gap buffer of primitive arrays (value and digit count per token) with the gap at the last edit,
+// so an edit re-parses only the tokens it touches and moves the gap only as far as the cursor
+// moved: typing, deleting or pasting costs O(edit size), not O(text). The count, the number of
+// invalid entries and the position of an error introduced by the edit are all O(1) to read.
+// Only digits and commas are expected; the caller filters everything else out beforehand.
+// A single trailing comma is allowed and ends the list, as in the manual entry screen.
+public class IncrementalCoinTokenizer {
+
+	private static final int INVALID = -1; // Value of an empty token or one that overflows an int
+
+	private int[] values = new int[16];
+	private int[] lengths = new int[16]; // Digits in each token
+	private int gapStart; // Tokens [0, gapStart) come before the gap
+	private int gapEnd; // Tokens [gapEnd, capacity) come after it
+	private int gapOffset; // Text offset of the first token after the gap
+	private int tokens; // Tokens in the text: commas + 1
+	private int invalid; // Invalid tokens, including an empty last one
+	private int length; // Current text length
+	private int errorOffset = -1; // Start of the first invalid token the last edit produced
+
+	public IncrementalCoinTokenizer() {
+		clear();
+	}
+
+	// Parses text from scratch
+	public void reset(CharSequence text) {
+		clear();
+		replace("", 0, 0, text);
+	}
+
+	// Applies one edit: [start, oldEnd) of oldText, the text before the edit, is replaced by inserted.
+	// Nothing is copied; characters outside the touched tokens are never read.
+	public void replace(CharSequence oldText, int start, int oldEnd, CharSequence inserted) {
+		if (oldText.length() != length || start < 0 || oldEnd < start || oldEnd > length) {
+			throw new IllegalArgumentException("Edit [" + start + ", " + oldEnd + ") does not fit a text of length "
+					+ oldText.length() + " (expected " + length + ")");
+		}
+		int newEnd = start + inserted.length();
+		moveGapTo(start);
+
+		// Remove the tokens the edit touches: from the one holding start to the one holding oldEnd
+		int spanStart = gapOffset;
+		int spanEnd = gapOffset + lengths[gapEnd];
+		while (spanEnd < oldEnd) {
+			removeAfterGap();
+			spanEnd += 1 + lengths[gapEnd];
+		}
+		removeAfterGap();
+
+		// Re-tokenize the same tokens in the new text
+		length += inserted.length() - (oldEnd - start);
+		errorOffset = -1;
+		int newSpanEnd = spanEnd + (newEnd - oldEnd);
+		long value = 0;
+		int digits = 0, tokenStart = spanStart;
+		for (int p = spanStart; p <= newSpanEnd; p++) {
+			char c = p == newSpanEnd ? ','
+					: p < start ? oldText.charAt(p)
+					: p < newEnd ? inserted.charAt(p - start)
+					: oldText.charAt(p - newEnd + oldEnd);
+			if (c == ',') {
+				insertBeforeGap(digits == 0 || value > Integer.MAX_VALUE ? INVALID : (int) value, digits, tokenStart,
+						p == length);
+				value = 0;
+				digits = 0;
+				tokenStart = p + 1;
+			} else {
+				value = Math.min(value * 10 + (c - '0'), Integer.MAX_VALUE + 1L); // Saturates on overflow
+				digits++;
+			}
+		}
+		gapOffset = newSpanEnd + 1;
+	}
+
+	// Coins in the list, not counting an empty entry after a trailing comma
+	public int size() {
+		return tokens - (lastIsEmpty() ? 1 : 0);
+	}
+
+	// Empty entries (",,", a leading comma) and values too large for an int
+	public int getInvalidCount() {
+		return invalid - (lastIsEmpty() ? 1 : 0);
+	}
+
+	public boolean isValid() {
+		return getInvalidCount() == 0 && size() > 0;
+	}
+
+	// Text offset of the first invalid entry produced by the last edit, or -1 if it produced none
+	public int getErrorOffset() {
+		return errorOffset;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	// The coins in order; invalid entries come out as -1
+	public int[] toArray() {
+		int n = size();
+		int[] coins = new int[n];
+		int before = Math.min(gapStart, n);
+		System.arraycopy(values, 0, coins, 0, before);
+		System.arraycopy(values, gapEnd, coins, before, n - before);
+		return coins;
+	}
+
+	private void clear() {
+		gapStart = 0;
+		gapEnd = values.length - 1; // The empty text is one empty token
+		values[gapEnd] = INVALID;
+		lengths[gapEnd] = 0;
+		gapOffset = 0;
+		tokens = 1;
+		invalid = 1;
+		length = 0;
+		errorOffset = -1;
+	}
+
+	// Moves the gap so the token containing offset (its digits or the comma after them) follows it
+	private void moveGapTo(int offset) {
+		while (offset < gapOffset && gapStart > 0) { // Target is before the gap
+			gapStart--;
+			gapEnd--;
+			values[gapEnd] = values[gapStart];
+			lengths[gapEnd] = lengths[gapStart];
+			gapOffset -= lengths[gapEnd] + 1;
+		}
+		while (offset > gapOffset + lengths[gapEnd]) { // Target is after the first token past the gap
+			values[gapStart] = values[gapEnd];
+			lengths[gapStart] = lengths[gapEnd];
+			gapOffset += lengths[gapEnd] + 1;
+			gapStart++;
+			gapEnd++;
+		}
+	}
+
+	private void removeAfterGap() {
+		if (values[gapEnd] == INVALID) {
+			invalid--;
+		}
+		tokens--;
+		gapEnd++;
+	}
+
+	private void insertBeforeGap(int value, int digits, int tokenStart, boolean last) {
+		if (gapStart == gapEnd) {
+			grow();
+		}
+		values[gapStart] = value;
+		lengths[gapStart] = digits;
+		gapStart++;
+		tokens++;
+		if (value == INVALID) {
+			invalid++;
+			if (errorOffset < 0 && !(digits == 0 && last)) { // A trailing comma is not an error
+				errorOffset = tokenStart;
+			}
+		}
+	}
+
+	private void grow() {
+		int capacity = values.length;
+		int after = capacity - gapEnd;
+		int newCapacity = capacity * 2;
+		values = Arrays.copyOf(values, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+		System.arraycopy(values, gapEnd, values, newCapacity - after, after);
+		System.arraycopy(lengths, gapEnd, lengths, newCapacity - after, after);
+		gapEnd = newCapacity - after;
+	}
+
+	private boolean lastIsEmpty() {
+		int last = gapEnd < values.length ? values.length - 1 : gapStart - 1;
+		return lengths[last] == 0;
+	}
+}
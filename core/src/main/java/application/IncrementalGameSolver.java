@@ -0,0 +1,71 @@
+package application;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Append-only solver for coins that arrive over time. The margin table can be filled column by
+// column: when coin j arrives, d[i][j] for i = j, j - 1, ..., 0 needs only d[i + 1][j] (computed
+// just before it in the same pass) and d[i][j - 1] (the previous column). Keeping just the last
+// column makes each arrival O(j) work and O(n) memory, and the answer for the current prefix is
+// always up to date. Not thread-safe; feed it from one thread.
+public class IncrementalGameSolver {
+
+	private int[] coins = new int[16]; // Coins received so far
+	private int[] column = new int[16]; // column[i] = d[i][size - 1]
+	private int size;
+	private long total;
+
+	public void append(int coin) {
+		if (size == coins.length) {
+			int capacity = coins.length * 2;
+			coins = Arrays.copyOf(coins, capacity);
+			column = Arrays.copyOf(column, capacity);
+		}
+		int j = size;
+		coins[j] = coin;
+		column[j] = coin; // Base case: a single coin is taken by the player to move
+
+		int below = coin; // d[i + 1][j]
+		for (int i = j - 1; i >= 0; i--) {
+			// column[i] still holds d[i][j - 1] until it is overwritten here
+			int margin = Math.max(coins[i] - below, coin - column[i]);
+			column[i] = margin;
+			below = margin;
+		}
+		size++;
+		total += coin;
+	}
+
+	public void append(int[] chunk) {
+		append(chunk, 0, chunk.length);
+	}
+
+	public void append(int[] chunk, int offset, int length) {
+		for (int k = offset; k < offset + length; k++) {
+			append(chunk[k]);
+		}
+	}
+
+	public void append(IntStream stream) {
+		stream.sequential().forEachOrdered(this::append);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	// First player's margin on the current prefix (0 when no coins have arrived)
+	public int margin() {
+		return size == 0 ? 0 : column[0];
+	}
+
+	// {firstPlayerScore, secondPlayerScore} for the current prefix, same as optimalGameSolution.scoresOnly
+	public int[] scores() {
+		int margin = margin();
+		return new int[] { (int) ((total + margin) / 2), (int) ((total - margin) / 2) };
+	}
+
+	public int[] coins() {
+		return Arrays.copyOf(coins, size);
+	}
+}
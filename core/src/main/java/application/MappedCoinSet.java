@@ -0,0 +1,49 @@
+package application;
+
+import java.nio.ByteBuffer;
+
+// Coins of a binary coin file, read straight from the memory-mapped payload (see BinaryCoinFile)
+public class MappedCoinSet {
+
+	private final ByteBuffer payload; // Little-endian, positioned at the first coin
+	private final int count;
+	private final int width;
+
+	MappedCoinSet(ByteBuffer payload, int count, int width) {
+		this.payload = payload;
+		this.count = count;
+		this.width = width;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public int getValueWidth() {
+		return width;
+	}
+
+	public int get(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Coin " + index + " of " + count);
+		}
+		if (width == 1) {
+			return payload.get(index) & 0xFF;
+		} else if (width == 2) {
+			return payload.getShort(index * 2) & 0xFFFF;
+		}
+		return payload.getInt(index * 4);
+	}
+
+	public int[] toArray() {
+		int[] coins = new int[count];
+		if (width == 4) {
+			payload.duplicate().order(payload.order()).asIntBuffer().get(coins);
+		} else {
+			for (int i = 0; i < count; i++) {
+				coins[i] = get(i);
+			}
+		}
+		return coins;
+	}
+}
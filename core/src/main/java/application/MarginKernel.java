@@ -0,0 +1,51 @@
+package application;
+
+// Inner loop of the "score difference" DP. A cell only stores the margin of the player to move,
+// d[i][j] = max(coins[i] - d[i + 1][j], coins[j] - d[i][j - 1]), and for diagonal-major storage
+// both inputs sit on the previous diagonal at positions i + 1 and i.
+public class MarginKernel {
+
+	public static final DiagonalKernel SCALAR = MarginKernel::fillDiagonal;
+
+	private MarginKernel() {
+	}
+
+	// SIMD kernel when jdk.incubator.vector is available at run time, otherwise SCALAR
+	public static DiagonalKernel vectorized() {
+		DiagonalKernel kernel = VectorHolder.KERNEL;
+		return kernel != null ? kernel : SCALAR;
+	}
+
+	public static boolean isVectorAvailable() {
+		return VectorHolder.KERNEL != null;
+	}
+
+	// Fills cells [from, to) of diagonal `length` into dst, reading diagonal length - 1 from src.
+	// No bounds ternaries and no data-dependent branches: Math.max compiles to a conditional move.
+	public static void fillDiagonal(int[] coins, int length, int[] src, int srcOffset, int[] dst, int dstOffset,
+			int from, int to) {
+		int shift = length - 1; // j - i on this diagonal
+		for (int i = from; i < to; i++) {
+			int takeLeft = coins[i] - src[srcOffset + i + 1];
+			int takeRight = coins[i + shift] - src[srcOffset + i];
+			dst[dstOffset + i] = Math.max(takeLeft, takeRight);
+		}
+	}
+
+	// Loaded lazily so the incubator module is only touched when someone asks for it
+	private static final class VectorHolder {
+		static final DiagonalKernel KERNEL = load();
+
+		private static DiagonalKernel load() {
+			try {
+				DiagonalKernel kernel = (DiagonalKernel) Class.forName("application.VectorMarginKernel")
+						.getDeclaredConstructor().newInstance();
+				int[] probe = { 1, 2 };
+				kernel.fillDiagonal(probe, 2, probe, 0, new int[1], 0, 0, 1); // Fails here if not linkable
+				return kernel;
+			} catch (ReflectiveOperationException | LinkageError e) {
+				return null; // Module not resolved (no --add-modules jdk.incubator.vector)
+			}
+		}
+	}
+}
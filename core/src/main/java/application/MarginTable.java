@@ -0,0 +1,147 @@
+package application;
+
+import java.nio.IntBuffer;
+
+// DP table that stores a single value per cell: the margin (own score minus opponent score) the
+// player to move can guarantee on coins[i..j]. Cells are packed diagonal-major like PackedDPTable,
+// and both players' scores are recovered from the margin and the subarray total.
+// A table is either filled in memory by a solver or mapped read-only from the disk cache
+// (see DiskSolveCache). A single mapping holds at most 2GB, so a mapped table is split into
+// windows of WINDOW_CELLS cells; only the last window may be shorter.
+public class MarginTable {
+
+	static final int WINDOW_SHIFT = 28;
+	static final int WINDOW_CELLS = 1 << WINDOW_SHIFT; // 1GB of ints per mapped window
+
+	private final int[] coins;
+	private final long[] prefix; // prefix[k] = coins[0] + ... + coins[k - 1]
+	private final int[] margins; // Null for a mapped table
+	private final IntBuffer[] mapped; // Null for an in-memory table
+
+	public MarginTable(int[] coins) {
+		this.coins = coins;
+		this.prefix = prefixSums(coins);
+		this.margins = new int[checkedCellCount(coins.length)];
+		this.mapped = null;
+	}
+
+	// A solved table whose cells are read from (memory-mapped) buffers, in diagonal-major order and
+	// split into windows as described above
+	MarginTable(int[] coins, IntBuffer[] windows) {
+		int cellCount = checkedCellCount(coins.length);
+		if (windows.length != windowCount(coins.length)) {
+			throw new IllegalArgumentException("Expected " + windowCount(coins.length) + " windows, got "
+					+ windows.length);
+		}
+		this.mapped = new IntBuffer[windows.length];
+		for (int w = 0; w < windows.length; w++) {
+			if (windows[w].remaining() != windowLength(cellCount, w)) {
+				throw new IllegalArgumentException("Expected " + windowLength(cellCount, w) + " cells in window " + w
+						+ ", got " + windows[w].remaining());
+			}
+			mapped[w] = windows[w].slice();
+		}
+		this.coins = coins;
+		this.prefix = prefixSums(coins);
+		this.margins = null;
+	}
+
+	static int windowCount(int n) {
+		return (int) ((PackedDPTable.cellCount(n) + WINDOW_CELLS - 1) >>> WINDOW_SHIFT);
+	}
+
+	private static int windowLength(int cellCount, int window) {
+		return Math.min(WINDOW_CELLS, cellCount - (window << WINDOW_SHIFT));
+	}
+
+	private static int checkedCellCount(int n) {
+		long size = PackedDPTable.cellCount(n);
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many coins for a margin table: " + n);
+		}
+		return (int) size;
+	}
+
+	private static long[] prefixSums(int[] coins) {
+		long[] prefix = new long[coins.length + 1];
+		for (int i = 0; i < coins.length; i++) {
+			prefix[i + 1] = prefix[i] + coins[i];
+		}
+		return prefix;
+	}
+
+	public int size() {
+		return coins.length;
+	}
+
+	public int[] coins() {
+		return coins;
+	}
+
+	public int margin(int i, int j) {
+		return cell(index(i, j));
+	}
+
+	// Sum of coins[i..j]
+	public int total(int i, int j) {
+		return (int) (prefix[j + 1] - prefix[i]);
+	}
+
+	public int first(int i, int j) {
+		return (int) (((long) total(i, j) + margin(i, j)) / 2);
+	}
+
+	public int second(int i, int j) {
+		return (int) (((long) total(i, j) - margin(i, j)) / 2);
+	}
+
+	// Raw storage, used by the solvers to fill the table in place
+	int[] margins() {
+		if (margins == null) {
+			throw new IllegalStateException("A mapped margin table is read-only");
+		}
+		return margins;
+	}
+
+	boolean isMapped() {
+		return mapped != null;
+	}
+
+	// Cells of one window (see windowCount), in diagonal-major order, without copying; read-only
+	IntBuffer cells(int window) {
+		if (margins == null) {
+			return mapped[window].asReadOnlyBuffer();
+		}
+		return IntBuffer.wrap(margins, window << WINDOW_SHIFT, windowLength(margins.length, window)).slice()
+				.asReadOnlyBuffer();
+	}
+
+	private int cell(int index) {
+		return margins != null ? margins[index] : mapped[index >>> WINDOW_SHIFT].get(index & (WINDOW_CELLS - 1));
+	}
+
+	int index(int i, int j) {
+		int n = coins.length;
+		if (i < 0 || j >= n || i > j) {
+			throw new IndexOutOfBoundsException("No DP cell for [" + i + "][" + j + "] with " + n + " coins");
+		}
+		return (int) (PackedDPTable.diagonalOffset(n, j - i + 1) + i);
+	}
+
+	// Adapter for the JavaFX views that still expect dp[i][j][0..1]
+	public int[][][] toArray() {
+		int n = coins.length;
+		int[][][] dp = new int[n][n][2];
+		int index = 0;
+		for (int length = 1; length <= n; length++) {
+			for (int i = 0; i <= n - length; i++) {
+				int j = i + length - 1;
+				long total = prefix[j + 1] - prefix[i];
+				int margin = cell(index++);
+				dp[i][j][0] = (int) ((total + margin) / 2);
+				dp[i][j][1] = (int) ((total - margin) / 2);
+			}
+		}
+		return dp;
+	}
+}
@@ -0,0 +1,50 @@
+package application;
+
+// Answers "which end should the player to move take, and what does the other end cost?" for any
+// remaining row [start, end] of a solved board, in O(1) per query from the margin table.
+public class MoveOracle {
+
+	public static final int LEFT = 0;
+	public static final int RIGHT = 1;
+
+	private final SolvedBoard board;
+
+	public MoveOracle(SolvedBoard board) {
+		this.board = board;
+	}
+
+	// Optimal end for the player to move on coins[start..end]; ties go to the left coin
+	public int bestSide(int start, int end) {
+		return marginAfter(start, end, LEFT) >= marginAfter(start, end, RIGHT) ? LEFT : RIGHT;
+	}
+
+	public int bestIndex(int start, int end) {
+		return bestSide(start, end) == LEFT ? start : end;
+	}
+
+	// Coins the player to move gives up (against optimal play afterwards) by taking `side`; 0 if optimal
+	public int valueLost(int start, int end, int side) {
+		// Score = (total + margin) / 2, and both choices share the total, so the loss is half the margin gap
+		return (board.margin(start, end) - marginAfter(start, end, side)) / 2;
+	}
+
+	// Best score the player to move can still reach on coins[start..end]
+	public int bestScore(int start, int end) {
+		return board.first(start, end);
+	}
+
+	// Margin of the player to move if they take `side` and both play optimally afterwards
+	private int marginAfter(int start, int end, int side) {
+		checkRange(start, end);
+		if (side == LEFT) {
+			return board.coin(start) - (start < end ? board.margin(start + 1, end) : 0);
+		}
+		return board.coin(end) - (start < end ? board.margin(start, end - 1) : 0);
+	}
+
+	private void checkRange(int start, int end) {
+		if (start < 0 || end >= board.size() || start > end) {
+			throw new IndexOutOfBoundsException("No coins left in [" + start + ", " + end + "]");
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package application;
+
+// Upper-triangular DP table stored in a single flat int[] and laid out diagonal by diagonal.
+// Cell (i, j) with i <= j belongs to diagonal length = j - i + 1, and every diagonal is kept
+// contiguous, so filling diagonal `length` reads diagonal `length - 1` sequentially.
+// Each cell holds two ints: [firstPlayerScore, secondPlayerScore].
+public class PackedDPTable {
+
+	private final int n; // Number of coins
+	private final int[] cells; // Interleaved first/second scores, diagonal-major
+
+	public PackedDPTable(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Number of coins cannot be negative: " + n);
+		}
+		long size = cellCount(n) * 2;
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many coins for a packed DP table: " + n);
+		}
+		this.n = n;
+		this.cells = new int[(int) size];
+	}
+
+	// Number of cells with i <= j for n coins
+	public static long cellCount(int n) {
+		return (long) n * (n + 1) / 2;
+	}
+
+	// Index of the first cell on the given diagonal (length 1 starts at 0)
+	public static long diagonalOffset(int n, int length) {
+		long before = length - 1; // Diagonals stored before this one
+		return before * n - before * (before - 1) / 2;
+	}
+
+	public int size() {
+		return n;
+	}
+
+	public int first(int i, int j) {
+		return cells[slot(i, j)];
+	}
+
+	public int second(int i, int j) {
+		return cells[slot(i, j) + 1];
+	}
+
+	// Raw storage, used by the solver to fill the table in place
+	int[] cells() {
+		return cells;
+	}
+
+	private int slot(int i, int j) {
+		if (i < 0 || j >= n || i > j) {
+			throw new IndexOutOfBoundsException("No DP cell for [" + i + "][" + j + "] with " + n + " coins");
+		}
+		return (int) (diagonalOffset(n, j - i + 1) + i) * 2;
+	}
+
+	// Adapter for the JavaFX views that still expect dp[i][j][0..1]
+	public int[][][] toArray() {
+		int[][][] dp = new int[n][n][2];
+		int slot = 0;
+		for (int length = 1; length <= n; length++) {
+			for (int i = 0; i <= n - length; i++) {
+				int j = i + length - 1;
+				dp[i][j][0] = cells[slot++];
+				dp[i][j][1] = cells[slot++];
+			}
+		}
+		return dp;
+	}
+}
@@ -0,0 +1,132 @@
+package application;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Parallel version of optimalGameSolution.solveMargins / scoresOnly. Every cell on diagonal
+// `length` depends only on diagonal `length - 1`, so each diagonal is split into chunks that run
+// on a ForkJoinPool, with a join between diagonals. Chunks are sized from the pool's parallelism
+// (about four per worker, for balance), never below a minimum grain; diagonals no longer than the
+// minimum grain are filled on the calling thread so small games pay nothing for the pool.
+public class ParallelWavefrontSolver {
+
+	public static final int DEFAULT_MIN_GRAIN = 1024; // Smallest chunk worth a task
+
+	private static final int CHUNKS_PER_WORKER = 4;
+
+	private final ForkJoinPool pool;
+	private final int minGrain;
+	private final DiagonalKernel kernel;
+
+	public ParallelWavefrontSolver() {
+		this(ForkJoinPool.commonPool(), DEFAULT_MIN_GRAIN);
+	}
+
+	// SIMD kernel when available, as in optimalGameSolution
+	public ParallelWavefrontSolver(ForkJoinPool pool, int minGrain) {
+		this(pool, minGrain, MarginKernel.vectorized());
+	}
+
+	public ParallelWavefrontSolver(ForkJoinPool pool, int minGrain, DiagonalKernel kernel) {
+		if (minGrain < 1) {
+			throw new IllegalArgumentException("Minimum grain must be positive: " + minGrain);
+		}
+		this.pool = pool;
+		this.minGrain = minGrain;
+		this.kernel = kernel;
+	}
+
+	// Same table as optimalGameSolution.solveMargins
+	public MarginTable solveMargins(int[] coins) {
+		SolverMetrics.Sample sample = SolverMetrics.get().startSolve();
+		try {
+			return fillMargins(coins);
+		} finally {
+			sample.finish(coins.length);
+		}
+	}
+
+	private MarginTable fillMargins(int[] coins) {
+		int n = coins.length;
+		MarginTable table = new MarginTable(coins);
+		int[] d = table.margins();
+		System.arraycopy(coins, 0, d, 0, n); // Base case: a single coin is taken by the player to move
+
+		int prev = 0; // Index of the first cell on diagonal length - 1
+		for (int length = 2; length <= n; length++) {
+			int cur = prev + (n - length + 2);
+			fillDiagonal(coins, length, d, prev, d, cur);
+			prev = cur;
+		}
+		return table;
+	}
+
+	// Same result as optimalGameSolution.scoresOnly, with O(n) memory
+	public int[] scoresOnly(int[] coins) {
+		SolverMetrics.Sample sample = SolverMetrics.get().startSolve();
+		try {
+			return sweepScores(coins);
+		} finally {
+			sample.finish(coins.length);
+		}
+	}
+
+	private int[] sweepScores(int[] coins) {
+		int n = coins.length;
+		if (n == 0) {
+			return new int[] { 0, 0 };
+		}
+		int[] prev = coins.clone();
+		int[] cur = new int[n];
+		for (int length = 2; length <= n; length++) {
+			fillDiagonal(coins, length, prev, 0, cur, 0);
+			int[] swap = prev;
+			prev = cur;
+			cur = swap;
+		}
+		return optimalGameSolution.scoresFromMargin(coins, prev[0]);
+	}
+
+	private void fillDiagonal(int[] coins, int length, int[] src, int srcOffset, int[] dst, int dstOffset) {
+		int cells = coins.length - length + 1;
+		int parallelism = pool.getParallelism();
+		if (cells <= minGrain || parallelism == 1) {
+			kernel.fillDiagonal(coins, length, src, srcOffset, dst, dstOffset, 0, cells);
+		} else {
+			int grain = Math.max(minGrain, cells / (CHUNKS_PER_WORKER * parallelism));
+			pool.invoke(new DiagonalTask(coins, length, src, srcOffset, dst, dstOffset, 0, cells, grain));
+		}
+	}
+
+	// Fills cells [from, to) of one diagonal, halving the range until it is no longer than the grain
+	private final class DiagonalTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] coins, src, dst;
+		private final int length, srcOffset, dstOffset, from, to, grain;
+
+		DiagonalTask(int[] coins, int length, int[] src, int srcOffset, int[] dst, int dstOffset, int from, int to,
+				int grain) {
+			this.coins = coins;
+			this.length = length;
+			this.src = src;
+			this.srcOffset = srcOffset;
+			this.dst = dst;
+			this.dstOffset = dstOffset;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= grain) {
+				kernel.fillDiagonal(coins, length, src, srcOffset, dst, dstOffset, from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new DiagonalTask(coins, length, src, srcOffset, dst, dstOffset, from, mid, grain),
+					new DiagonalTask(coins, length, src, srcOffset, dst, dstOffset, mid, to, grain));
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package application;
+
+// O(n) answer for an even number of coins, available before the exact DP finishes.
+// With an even count the first player can always take every even-indexed coin or every
+// odd-indexed coin: the two ends of an even-length row have different index parity, and whatever
+// the opponent takes leaves an end of the chosen parity exposed again. So the larger of the two
+// parity sums is a guaranteed lower bound on the optimal score. The first player takes exactly
+// n / 2 coins, so the sum of the n / 2 largest coins is an upper bound.
+public class ParityFastPath {
+
+	public static final int EVEN_INDICES = 0;
+	public static final int ODD_INDICES = 1;
+
+	private ParityFastPath() {
+	}
+
+	public static Result evaluate(int[] coins) {
+		int n = coins.length;
+		if (n % 2 != 0) {
+			throw new IllegalArgumentException("Parity strategy needs an even number of coins, got " + n);
+		}
+		long evenSum = 0, oddSum = 0;
+		for (int i = 0; i < n; i += 2) {
+			evenSum += coins[i];
+			oddSum += coins[i + 1];
+		}
+		int parity = evenSum >= oddSum ? EVEN_INDICES : ODD_INDICES;
+		long lower = Math.max(evenSum, oddSum);
+		long upper = sumOfLargest(coins, n / 2);
+		return new Result((int) lower, (int) upper, parity);
+	}
+
+	// Index the first player takes from coins[start..end] (even length) to follow the parity strategy
+	public static int nextMove(int start, int end, int parity) {
+		if ((end - start + 1) % 2 != 0) {
+			throw new IllegalArgumentException("Parity strategy only applies on even-length rows");
+		}
+		return start % 2 == parity ? start : end;
+	}
+
+	// Sum of the k largest values, using an expected O(n) quickselect on a copy
+	private static long sumOfLargest(int[] coins, int k) {
+		int[] values = coins.clone();
+		int target = values.length - k; // Everything from here on is among the k largest
+		int lo = 0, hi = values.length - 1;
+		while (lo < hi) {
+			int pivot = values[(lo + hi) >>> 1];
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (values[i] < pivot) {
+					i++;
+				}
+				while (values[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					int swap = values[i];
+					values[i++] = values[j];
+					values[j--] = swap;
+				}
+			}
+			if (target <= j) {
+				hi = j;
+			} else if (target >= i) {
+				lo = i;
+			} else {
+				break; // values[j + 1 .. i - 1] all equal the pivot
+			}
+		}
+		long sum = 0;
+		for (int i = target; i < values.length; i++) {
+			sum += values[i];
+		}
+		return sum;
+	}
+
+	// Bounds on the first player's optimal score and the parity that achieves the lower bound
+	public static class Result {
+		private final int lowerBound;
+		private final int upperBound;
+		private final int parity;
+
+		Result(int lowerBound, int upperBound, int parity) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+			this.parity = parity;
+		}
+
+		public int getLowerBound() {
+			return lowerBound;
+		}
+
+		public int getUpperBound() {
+			return upperBound;
+		}
+
+		public int getParity() {
+			return parity;
+		}
+
+		@Override
+		public String toString() {
+			return lowerBound + " - " + upperBound + " (take " + (parity == EVEN_INDICES ? "even" : "odd")
+					+ "-indexed coins)";
+		}
+	}
+}
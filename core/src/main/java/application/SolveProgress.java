@@ -0,0 +1,11 @@
+package application;
+
+// Callback for long solves, invoked on the solving thread after each diagonal of the table.
+// Returning false cancels the solve, which then throws java.util.concurrent.CancellationException.
+public interface SolveProgress {
+
+	// Never cancels and ignores progress
+	SolveProgress NONE = (done, total) -> true;
+
+	boolean diagonalDone(int done, int total);
+}
@@ -0,0 +1,164 @@
+package application;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Structured trace of what the solver and the game screens do, for debugging and teaching.
+// Off by default: ENABLED is a static final read once from -Doptimalgame.trace=true, so every
+// "if (SolveTrace.ENABLED)" guard is folded away by the JIT and costs nothing when disabled.
+// When enabled, events go into a ring buffer of parallel int arrays allocated up front; recording
+// claims a slot with one atomic increment and never allocates. Once full, the oldest events are
+// overwritten. Capacity comes from -Doptimalgame.trace.capacity (default 65536, rounded up to a
+// power of two).
+public class SolveTrace {
+
+	public static final boolean ENABLED = Boolean.getBoolean("optimalgame.trace");
+
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+
+	// Event kinds
+	public static final int BASE_CASE = 0; // d[i][i] = coin; value is the coin
+	public static final int CELL = 1;      // d[i][j] filled; value is the margin, side the optimal pick
+	public static final int MOVE = 2;      // A coin was taken in a game; i is its index, value the coin
+
+	private static final String[] KIND_NAMES = { "base", "cell", "move" };
+
+	private static final SolveTrace GLOBAL = new SolveTrace(
+			Integer.getInteger("optimalgame.trace.capacity", DEFAULT_CAPACITY));
+
+	private final int mask;
+	private final int[] kinds;
+	private final int[] rows;
+	private final int[] columns;
+	private final int[] values;
+	private final int[] sides;
+	private final AtomicLong next = new AtomicLong();
+
+	public SolveTrace(int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Trace capacity out of range: " + capacity);
+		}
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = size - 1;
+		this.kinds = new int[size];
+		this.rows = new int[size];
+		this.columns = new int[size];
+		this.values = new int[size];
+		this.sides = new int[size];
+	}
+
+	// The process-wide trace used by the solver and the UI
+	public static SolveTrace global() {
+		return GLOBAL;
+	}
+
+	// Callers guard with "if (SolveTrace.ENABLED)" so nothing is evaluated when tracing is off
+	public void record(int kind, int i, int j, int value, int side) {
+		int slot = (int) (next.getAndIncrement() & mask);
+		kinds[slot] = kind;
+		rows[slot] = i;
+		columns[slot] = j;
+		values[slot] = value;
+		sides[slot] = side;
+	}
+
+	// Records every cell of one filled diagonal of a margin table; d[start + i] holds d[i][i + length - 1]
+	void recordDiagonal(int[] coins, int length, int[] d, int prevStart, int start) {
+		int shift = length - 1;
+		for (int i = 0; i + shift < coins.length; i++) {
+			int margin = d[start + i];
+			int side = coins[i] - d[prevStart + i + 1] == margin ? MoveOracle.LEFT : MoveOracle.RIGHT;
+			record(CELL, i, i + shift, margin, side);
+		}
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+
+	// Number of events currently held (at most the capacity)
+	public int size() {
+		return (int) Math.min(next.get(), capacity());
+	}
+
+	// Events overwritten because the buffer wrapped
+	public long getDropped() {
+		return Math.max(0, next.get() - capacity());
+	}
+
+	public void clear() {
+		next.set(0);
+	}
+
+	// Copy of the held events, oldest first. Not atomic with respect to concurrent recording.
+	public List<Event> snapshot() {
+		long end = next.get();
+		long begin = Math.max(0, end - capacity());
+		List<Event> events = new ArrayList<>((int) (end - begin));
+		for (long k = begin; k < end; k++) {
+			int slot = (int) (k & mask);
+			events.add(new Event(kinds[slot], rows[slot], columns[slot], values[slot], sides[slot]));
+		}
+		return events;
+	}
+
+	// Writes the held events one per line, oldest first
+	public void dump(Appendable out) throws IOException {
+		for (Event event : snapshot()) {
+			out.append(event.toString()).append(System.lineSeparator());
+		}
+	}
+
+	// One recorded event
+	public static class Event {
+		private final int kind;
+		private final int i;
+		private final int j;
+		private final int value;
+		private final int side;
+
+		Event(int kind, int i, int j, int value, int side) {
+			this.kind = kind;
+			this.i = i;
+			this.j = j;
+			this.value = value;
+			this.side = side;
+		}
+
+		public int getKind() {
+			return kind;
+		}
+
+		public int getI() {
+			return i;
+		}
+
+		public int getJ() {
+			return j;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		public int getSide() {
+			return side;
+		}
+
+		@Override
+		public String toString() {
+			String name = kind >= 0 && kind < KIND_NAMES.length ? KIND_NAMES[kind] : String.valueOf(kind);
+			switch (kind) {
+			case CELL:
+				return name + " d[" + i + "][" + j + "] = " + value + " (" + (side == MoveOracle.LEFT ? "left" : "right")
+						+ ")";
+			case MOVE:
+				return name + " coin " + i + " = " + value + " (" + (side == 0 ? "first" : "second") + " player)";
+			default:
+				return name + " d[" + i + "][" + j + "] = " + value;
+			}
+		}
+	}
+}
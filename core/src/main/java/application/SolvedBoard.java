@@ -0,0 +1,61 @@
+package application;
+
+import java.util.Arrays;
+
+// A solved board as seen by the caller. The cache stores one MarginTable per board and its mirror
+// image, so a reversed board is answered from the same table: the game on coins[i..j] of the
+// reversed row is the game on coins[n - 1 - j .. n - 1 - i] of the stored one.
+public class SolvedBoard {
+
+	private final int[] coins; // In the caller's orientation
+	private final MarginTable table;
+	private final boolean reversed; // True when table holds the mirror image of coins
+
+	SolvedBoard(int[] coins, MarginTable table, boolean reversed) {
+		this.coins = coins;
+		this.table = table;
+		this.reversed = reversed;
+	}
+
+	public int size() {
+		return coins.length;
+	}
+
+	public int[] coins() {
+		return Arrays.copyOf(coins, coins.length);
+	}
+
+	public int coin(int index) {
+		return coins[index];
+	}
+
+	// Margin (own minus opponent score) for the player to move on coins[i..j]
+	public int margin(int i, int j) {
+		return reversed ? table.margin(coins.length - 1 - j, coins.length - 1 - i) : table.margin(i, j);
+	}
+
+	public int total(int i, int j) {
+		return reversed ? table.total(coins.length - 1 - j, coins.length - 1 - i) : table.total(i, j);
+	}
+
+	public int first(int i, int j) {
+		return (int) (((long) total(i, j) + margin(i, j)) / 2);
+	}
+
+	public int second(int i, int j) {
+		return (int) (((long) total(i, j) - margin(i, j)) / 2);
+	}
+
+	// Adapter for the JavaFX views that still expect dp[i][j][0..1]
+	public int[][][] toArray() {
+		int n = coins.length;
+		int[][][] dp = new int[n][n][2];
+		for (int i = 0; i < n; i++) {
+			for (int j = i; j < n; j++) {
+				dp[i][j][0] = first(i, j);
+				dp[i][j][1] = second(i, j);
+			}
+		}
+		return dp;
+	}
+}
@@ -0,0 +1,328 @@
+package application;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Process-wide counters for the solvers and the coin file loaders, exposed over JMX as
+// application:type=SolverMetrics (jconsole, VisualVM, any JMX exporter). Everything is recorded
+// into LongAdders, which stripe contended updates across cells instead of locking, and only once
+// per solve or per file, never per cell. Latencies go into a fixed log-scale histogram per
+// board-size bucket so percentiles can be read without keeping samples.
+// Counting always happens, but the MBean is only registered on request (registerMBean, called by
+// the JavaFX application, or -Doptimalgame.jmx=true): starting the platform MBean server costs a
+// few hundred milliseconds, which short CLI runs should not pay. Bytes allocated per solve are
+// only measured once registered, since the thread allocation counter lives in the same stack.
+public class SolverMetrics implements SolverMetricsMBean {
+
+	public static final String OBJECT_NAME = "application:type=SolverMetrics";
+
+	// Upper bounds (inclusive) of the board size buckets; the last bucket takes everything larger
+	private static final int[] SIZE_BUCKETS = { 100, 1_000, 10_000, 100_000 };
+	private static final String[] SIZE_LABELS = { "n <= 100", "n <= 1000", "n <= 10000", "n <= 100000",
+			"n > 100000" };
+
+	// Four bins per power of two of the latency in nanoseconds, so bin bounds are within 19%
+	private static final int SUB_BINS = 4;
+	private static final int BINS = 64 * SUB_BINS;
+
+	private static final SolverMetrics INSTANCE = new SolverMetrics();
+	private static boolean registered; // Guarded by the class
+
+	static {
+		if (Boolean.getBoolean("optimalgame.jmx")) {
+			registerMBean();
+		}
+	}
+
+	private final LongAdder solves = new LongAdder();
+	private final LongAdder cells = new LongAdder();
+	private final LongAdder inFlight = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final LongAdder measuredSolves = new LongAdder();
+	private final LongAdder[][] latencies = new LongAdder[SIZE_LABELS.length][BINS];
+	private final LongAdder filesParsed = new LongAdder();
+	private final LongAdder bytesParsed = new LongAdder();
+	private final LongAdder coinsParsed = new LongAdder();
+	private final LongAdder parseNanos = new LongAdder();
+
+	private volatile com.sun.management.ThreadMXBean allocations; // Null until registered
+
+	SolverMetrics() {
+		for (LongAdder[] bucket : latencies) {
+			for (int b = 0; b < BINS; b++) {
+				bucket[b] = new LongAdder();
+			}
+		}
+	}
+
+	// The registered instance all solvers and loaders report to
+	public static SolverMetrics get() {
+		return INSTANCE;
+	}
+
+	// Publishes the metrics as OBJECT_NAME and starts measuring allocations; later calls do nothing
+	public static synchronized void registerMBean() {
+		if (registered) {
+			return;
+		}
+		registered = true;
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+		} catch (JMException | SecurityException e) {
+			// Still usable in-process; only the JMX view is missing
+		}
+		INSTANCE.allocations = allocationBean();
+	}
+
+	private static com.sun.management.ThreadMXBean allocationBean() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+				return sunBean;
+			}
+		}
+		return null;
+	}
+
+	// Call when a solve begins and finish the returned sample when it ends (also on failure), or
+	// cancel it if the solve was cancelled
+	public Sample startSolve() {
+		inFlight.increment();
+		com.sun.management.ThreadMXBean bean = allocations;
+		long allocated = bean == null ? -1 : bean.getCurrentThreadAllocatedBytes();
+		return new Sample(System.nanoTime(), allocated, bean);
+	}
+
+	public void recordParse(long bytes, int coins, long nanos) {
+		filesParsed.increment();
+		bytesParsed.add(bytes);
+		coinsParsed.add(coins);
+		parseNanos.add(nanos);
+	}
+
+	private void finishSolve(Sample sample, int n) {
+		long nanos = System.nanoTime() - sample.startNanos;
+		inFlight.decrement();
+		solves.increment();
+		cells.add((long) n * (n + 1) / 2);
+		if (sample.startAllocated >= 0) {
+			allocatedBytes.add(sample.allocations.getCurrentThreadAllocatedBytes() - sample.startAllocated);
+			measuredSolves.increment();
+		}
+		latencies[sizeBucket(n)][bin(nanos)].increment();
+	}
+
+	private static int sizeBucket(int n) {
+		for (int b = 0; b < SIZE_BUCKETS.length; b++) {
+			if (n <= SIZE_BUCKETS[b]) {
+				return b;
+			}
+		}
+		return SIZE_BUCKETS.length;
+	}
+
+	// Log-linear bin: the power of two, then the next two bits below the leading one
+	private static int bin(long nanos) {
+		if (nanos < SUB_BINS) {
+			return (int) Math.max(nanos, 0);
+		}
+		int power = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = (int) (nanos >>> (power - 2)) & (SUB_BINS - 1);
+		return power * SUB_BINS + sub;
+	}
+
+	// Largest latency that falls into the bin, in nanoseconds
+	private static long binUpperBound(int bin) {
+		if (bin < SUB_BINS) {
+			return bin;
+		}
+		int power = bin / SUB_BINS, sub = bin % SUB_BINS;
+		return ((long) (SUB_BINS + sub + 1) << (power - 2)) - 1;
+	}
+
+	private static double percentileMicros(long[] counts, long total, double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+		long seen = 0;
+		for (int b = 0; b < BINS; b++) {
+			seen += counts[b];
+			if (seen >= rank) {
+				return binUpperBound(b) / 1_000.0;
+			}
+		}
+		return binUpperBound(BINS - 1) / 1_000.0;
+	}
+
+	private static long[] snapshot(LongAdder[] bucket) {
+		long[] counts = new long[BINS];
+		for (int b = 0; b < BINS; b++) {
+			counts[b] = bucket[b].sum();
+		}
+		return counts;
+	}
+
+	private static long sum(long[] counts) {
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	@Override
+	public long getSolveCount() {
+		return solves.sum();
+	}
+
+	@Override
+	public long getCellsComputed() {
+		return cells.sum();
+	}
+
+	@Override
+	public long getInFlightSolves() {
+		return inFlight.sum();
+	}
+
+	@Override
+	public long getBytesAllocatedPerSolve() {
+		long measured = measuredSolves.sum();
+		return measured == 0 ? -1 : allocatedBytes.sum() / measured;
+	}
+
+	@Override
+	public String[] getLatencyPercentiles() {
+		String[] lines = new String[SIZE_LABELS.length];
+		for (int s = 0; s < SIZE_LABELS.length; s++) {
+			long[] counts = snapshot(latencies[s]);
+			long total = sum(counts);
+			lines[s] = String.format("%s: count=%d p50=%.1fus p90=%.1fus p99=%.1fus max=%.1fus", SIZE_LABELS[s],
+					total, percentileMicros(counts, total, 50),
+					percentileMicros(counts, total, 90),
+					percentileMicros(counts, total, 99),
+					percentileMicros(counts, total, 100));
+		}
+		return lines;
+	}
+
+	@Override
+	public double latencyPercentileMicros(int n, double percentile) {
+		LongAdder[] bucket = latencies[sizeBucket(n)];
+		long[] counts = snapshot(bucket);
+		return percentileMicros(counts, sum(counts), percentile);
+	}
+
+	// The cache attributes read the shared service only once something has created it: creating it
+	// from a JMX console would set up the disk cache directory
+	@Override
+	public long getCacheHits() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getHits();
+	}
+
+	@Override
+	public long getCacheDiskHits() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getDiskHits();
+	}
+
+	@Override
+	public long getCacheMisses() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getMisses();
+	}
+
+	@Override
+	public double getCacheHitRate() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getHitRate();
+	}
+
+	@Override
+	public int getCachedBoards() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getCachedBoards();
+	}
+
+	@Override
+	public long getCachedBytes() {
+		GameSolverService service = GameSolverService.sharedIfCreated();
+		return service == null ? 0 : service.getCachedBytes();
+	}
+
+	@Override
+	public long getFilesParsed() {
+		return filesParsed.sum();
+	}
+
+	@Override
+	public long getBytesParsed() {
+		return bytesParsed.sum();
+	}
+
+	@Override
+	public long getCoinsParsed() {
+		return coinsParsed.sum();
+	}
+
+	@Override
+	public double getParseThroughputMBps() {
+		long nanos = parseNanos.sum();
+		return nanos == 0 ? 0 : bytesParsed.sum() * 1_000.0 / nanos; // bytes/ns * 1000 = MB/s
+	}
+
+	// Clears the solver and parse counters; in-flight solves and the cache are left alone
+	@Override
+	public void reset() {
+		solves.reset();
+		cells.reset();
+		allocatedBytes.reset();
+		measuredSolves.reset();
+		for (LongAdder[] bucket : latencies) {
+			for (LongAdder bin : bucket) {
+				bin.reset();
+			}
+		}
+		filesParsed.reset();
+		bytesParsed.reset();
+		coinsParsed.reset();
+		parseNanos.reset();
+	}
+
+	// One solve in progress
+	public final class Sample {
+		private final long startNanos;
+		private final long startAllocated;
+		private final com.sun.management.ThreadMXBean allocations; // Null when not measured
+
+		private Sample(long startNanos, long startAllocated, com.sun.management.ThreadMXBean allocations) {
+			this.startNanos = startNanos;
+			this.startAllocated = startAllocated;
+			this.allocations = allocations;
+		}
+
+		private boolean closed; // Samples stay on the solving thread
+
+		public void finish(int n) {
+			if (!closed) {
+				closed = true;
+				finishSolve(this, n);
+			}
+		}
+
+		// Ends the sample without counting a solve; a later finish does nothing
+		public void cancel() {
+			if (!closed) {
+				closed = true;
+				inFlight.decrement();
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package application;
+
+// JMX view of SolverMetrics, registered as application:type=SolverMetrics
+public interface SolverMetricsMBean {
+
+	long getSolveCount();
+
+	long getCellsComputed();
+
+	long getInFlightSolves();
+
+	// Average heap allocated by the solving thread per solve, or -1 when the JVM cannot measure it
+	long getBytesAllocatedPerSolve();
+
+	// One line per board size bucket: count, p50, p90, p99 and max latency in microseconds
+	String[] getLatencyPercentiles();
+
+	// Latency in microseconds at the given percentile (0..100) for boards in the same bucket as n
+	double latencyPercentileMicros(int n, double percentile);
+
+	long getCacheHits();
+
+	// Memory cache misses answered by the disk cache; not counted as misses
+	long getCacheDiskHits();
+
+	long getCacheMisses();
+
+	double getCacheHitRate();
+
+	int getCachedBoards();
+
+	long getCachedBytes();
+
+	long getFilesParsed();
+
+	long getBytesParsed();
+
+	long getCoinsParsed();
+
+	// Bytes parsed per second of parse time, in MB/s
+	double getParseThroughputMBps();
+
+	void reset();
+}
@@ -0,0 +1,80 @@
+package application;
+
+// Cache-blocked score-only solve. The plain sweep (optimalGameSolution.scoresOnly) streams two
+// whole diagonals through the cache for every subarray length; once 8n bytes outgrow L2 that is a
+// full trip to L3 or memory per diagonal. Here the margins are kept in one array updated in place
+// (d[i] = max(coins[i] - d[i + 1], coins[j] - d[i]) only reads cells at or after i, so ascending
+// order is safe) and the (length, i) plane is cut into square tiles of tileSize diagonals by
+// tileSize cells. A band of tileSize diagonals is swept left to right in skewed tiles, each
+// diagonal one cell behind the one before it, so a tile's inputs were written moments earlier and
+// are still in L1, and the array makes one trip through memory per band instead of per diagonal.
+//
+// The full margin table is not tiled: it has to write every cell anyway, and at the sizes an
+// int-indexed table allows one diagonal (at most 256 KB) already stays in L2, so blocking only
+// splits the write streams. Measured on a 2 MB L2 core, the vector kernel's score-only sweep
+// drops from 0.65 to 0.25 ns/cell at n = 1M and from 1.14 to 0.31 at n = 8M (tile size 256-1024);
+// see BlockedScoreBenchmark.
+public class TiledSolver {
+
+	public static final int DEFAULT_TILE_SIZE = 1024;
+
+	// Boards from which optimalGameSolution.scoresOnly switches to the blocked sweep; below this the
+	// two diagonals fit in L2 and the plain sweep has nothing to gain
+	public static final int MIN_BLOCKED_COINS = 1 << 16;
+
+	private final int tileSize;
+
+	public TiledSolver() {
+		this(DEFAULT_TILE_SIZE);
+	}
+
+	// A tile size of at least n degenerates to the unblocked in-place sweep, the benchmark baseline
+	public TiledSolver(int tileSize) {
+		if (tileSize < 1) {
+			throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+		}
+		this.tileSize = tileSize;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	// Same result as optimalGameSolution.scoresOnly, with the same default kernel
+	public int[] scoresOnly(int[] coins) {
+		return scoresOnly(coins, MarginKernel.vectorized());
+	}
+
+	public int[] scoresOnly(int[] coins, DiagonalKernel kernel) {
+		SolverMetrics.Sample sample = SolverMetrics.get().startSolve();
+		try {
+			return coins.length == 0 ? new int[] { 0, 0 }
+					: optimalGameSolution.scoresFromMargin(coins, margin(coins, kernel, tileSize));
+		} finally {
+			sample.finish(coins.length);
+		}
+	}
+
+	// Margin of the player to move on the whole row, for a non-empty row
+	static int margin(int[] coins, DiagonalKernel kernel, int tileSize) {
+		int n = coins.length;
+		int tile = Math.min(tileSize, n); // Also keeps the index arithmetic below in int range
+		int[] d = coins.clone(); // Base case: the coin itself
+		for (int first = 2; first <= n; first += tile) { // Band of diagonals [first, last]
+			int last = Math.min(first + tile - 1, n);
+			int skew = last - first;
+			int lastCells = n - last + 1;
+			for (int column = 0; column - skew < lastCells; column += tile) {
+				for (int length = first; length <= last; length++) {
+					int k = length - first; // Diagonal k of the band runs k cells behind the first
+					int from = Math.max(column - k, 0);
+					int to = Math.min(column + tile - k, n - length + 1);
+					if (from < to) {
+						kernel.fillDiagonal(coins, length, d, 0, d, 0, from, to);
+					}
+				}
+			}
+		}
+		return d[0];
+	}
+}
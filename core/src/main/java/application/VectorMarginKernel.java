@@ -0,0 +1,31 @@
+package application;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD version of MarginKernel.fillDiagonal using the incubating JDK Vector API. Cells on one
+// diagonal are independent, so a whole lane-width of them is computed per instruction; the
+// leftover tail goes through the scalar kernel.
+// Needs --add-modules jdk.incubator.vector at compile time and at run time. Do not reference this
+// class directly: MarginKernel.vectorized() loads it reflectively and falls back to the scalar
+// kernel when the module is missing.
+final class VectorMarginKernel implements DiagonalKernel {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	@Override
+	public void fillDiagonal(int[] coins, int length, int[] src, int srcOffset, int[] dst, int dstOffset, int from,
+			int to) {
+		int shift = length - 1; // j - i on this diagonal
+		int i = from;
+		int upper = from + SPECIES.loopBound(to - from);
+		for (; i < upper; i += SPECIES.length()) {
+			IntVector takeLeft = IntVector.fromArray(SPECIES, coins, i)
+					.sub(IntVector.fromArray(SPECIES, src, srcOffset + i + 1));
+			IntVector takeRight = IntVector.fromArray(SPECIES, coins, i + shift)
+					.sub(IntVector.fromArray(SPECIES, src, srcOffset + i));
+			takeLeft.max(takeRight).intoArray(dst, dstOffset + i);
+		}
+		MarginKernel.fillDiagonal(coins, length, src, srcOffset, dst, dstOffset, i, to);
+	}
+}
@@ -0,0 +1,240 @@
+package application;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+
+public class optimalGameSolution {
+
+	public static int[][][] maximumAmountOfCoins(int[] arr, int[] chosenCoins, int[] secondPlayerCoins) {
+	    MarginTable dp = solveMargins(arr); // Stores firstPlayerScore - secondPlayerScore for i <= j
+	    backtrace(dp, chosenCoins, secondPlayerCoins);
+	    return dp.toArray(); // Nested view kept for the JavaFX screens
+	}
+
+	// Replays optimal play on a solved table, writing each player's coins in the order taken
+	public static void backtrace(MarginTable dp, int[] chosenCoins, int[] secondPlayerCoins) {
+	    int[] arr = dp.coins();
+	    int n = arr.length;
+
+        // Backtrace to find the chosen coins for both players
+        int start = 0, end = n - 1;
+        int firstIndex = 0, secondIndex = 0;
+        boolean firstPlayerTurn = true; // Track whose turn it is
+
+        while (start <= end) {
+            // Determine which coin was chosen based on the DP values
+            if (start == end || arr[start] - dp.margin(start + 1, end) == dp.margin(start, end)) {
+                // Left coin was chosen
+                if (firstPlayerTurn) {
+                    chosenCoins[firstIndex++] = arr[start]; // Add to first player's coins
+                } else {
+                    secondPlayerCoins[secondIndex++] = arr[start]; // Add to second player's coins
+                }
+                start++; // Move the start index forward
+            } else {
+                // Right coin was chosen
+                if (firstPlayerTurn) {
+                    chosenCoins[firstIndex++] = arr[end]; // Add to first player's coins
+                } else {
+                    secondPlayerCoins[secondIndex++] = arr[end]; // Add to second player's coins
+                }
+                end--; // Move the end index backward
+            }
+
+            // Switch turns
+            firstPlayerTurn = !firstPlayerTurn;
+        }
+
+        // The caller's arrays cannot be resized from here: the first player's coins fill
+        // chosenCoins[0 .. (n + 1) / 2) and the second player's fill secondPlayerCoins[0 .. n / 2)
+    }
+
+	// Fills the DP table into packed, diagonal-major storage (see PackedDPTable)
+	public static PackedDPTable solvePacked(int[] arr) {
+	    SolverMetrics.Sample sample = SolverMetrics.get().startSolve(); // Once per solve, never per cell
+	    try {
+	        return fillPacked(arr);
+	    } finally {
+	        sample.finish(arr.length);
+	    }
+	}
+
+	private static PackedDPTable fillPacked(int[] arr) {
+	    int n = arr.length;
+	    PackedDPTable table = new PackedDPTable(n);
+	    int[] cells = table.cells();
+
+	    // Base case: for each single coin, the maximum amount is the coin itself.
+	    for (int i = 0; i < n; i++) {
+	        cells[2 * i] = arr[i]; // First player gets the coin
+	        cells[2 * i + 1] = 0;  // Opponent gets nothing
+	    }
+
+	    // Fill one diagonal (subarray length) at a time; each reads only the previous diagonal
+	    int prev = 0; // Slot of the first cell on diagonal length - 1
+	    for (int length = 2; length <= n; length++) {
+	        int cur = prev + 2 * (n - length + 2);
+	        for (int i = 0; i <= n - length; i++) {
+	            int j = i + length - 1; // The last element in the array
+	            int below = prev + 2 * (i + 1); // dp[i + 1][j]
+	            int left = prev + 2 * i;        // dp[i][j - 1]
+
+	            // Case 1: First player picks the left coin
+	            int pickLeftFirst = arr[i] + cells[below + 1];
+	            int pickLeftSecond = cells[below];
+
+	            // Case 2: First player picks the right coin
+	            int pickRightFirst = arr[j] + cells[left + 1];
+	            int pickRightSecond = cells[left];
+
+	            // Choose the better option for the first player
+	            int slot = cur + 2 * i;
+	            if (pickLeftFirst > pickRightFirst) {
+	                cells[slot] = pickLeftFirst;
+	                cells[slot + 1] = pickLeftSecond;
+	            } else {
+	                cells[slot] = pickRightFirst;
+	                cells[slot + 1] = pickRightSecond;
+	            }
+	        }
+	        prev = cur;
+	    }
+	    return table;
+	}
+
+	// Fills the single-value margin table one diagonal at a time (see MarginTable), with the SIMD
+	// kernel when the JVM has jdk.incubator.vector and the scalar one otherwise
+	public static MarginTable solveMargins(int[] arr) {
+	    return solveMargins(arr, MarginKernel.vectorized());
+	}
+
+	// Same, with a chosen diagonal kernel (e.g. MarginKernel.SCALAR)
+	public static MarginTable solveMargins(int[] arr, DiagonalKernel kernel) {
+	    return solveMargins(arr, kernel, SolveProgress.NONE);
+	}
+
+	// Same, reporting each finished diagonal; throws CancellationException if progress returns false
+	public static MarginTable solveMargins(int[] arr, DiagonalKernel kernel, SolveProgress progress) {
+	    SolverMetrics.Sample sample = SolverMetrics.get().startSolve();
+	    try {
+	        return fillMargins(arr, kernel, progress);
+	    } catch (CancellationException e) {
+	        sample.cancel(); // Not a completed solve
+	        throw e;
+	    } finally {
+	        sample.finish(arr.length); // Does nothing once cancelled
+	    }
+	}
+
+	private static MarginTable fillMargins(int[] arr, DiagonalKernel kernel, SolveProgress progress) {
+	    int n = arr.length;
+	    MarginTable table = new MarginTable(arr);
+	    int[] d = table.margins();
+
+	    // Base case: a single coin is taken by the player to move.
+	    System.arraycopy(arr, 0, d, 0, n);
+	    if (SolveTrace.ENABLED) {
+	        for (int i = 0; i < n; i++) {
+	            SolveTrace.global().record(SolveTrace.BASE_CASE, i, i, arr[i], MoveOracle.LEFT);
+	        }
+	    }
+
+	    int prev = 0; // Index of the first cell on diagonal length - 1
+	    for (int length = 2; length <= n; length++) {
+	        int cur = prev + (n - length + 2);
+	        kernel.fillDiagonal(arr, length, d, prev, d, cur, 0, n - length + 1);
+	        if (SolveTrace.ENABLED) { // Recorded after the kernel so the hot loop stays untouched
+	            SolveTrace.global().recordDiagonal(arr, length, d, prev, cur);
+	        }
+	        if (!progress.diagonalDone(length - 1, n - 1)) {
+	            throw new CancellationException("Solve cancelled after " + (length - 1) + " of " + (n - 1) + " diagonals");
+	        }
+	        prev = cur;
+	    }
+	    return table;
+	}
+
+	// Score-only mode: returns {firstPlayerScore, secondPlayerScore} for the whole row without
+	// keeping the table. Only the previous and current diagonals are held, so memory is O(n).
+	public static int[] scoresOnly(int[] arr) {
+	    return scoresOnly(arr, MarginKernel.vectorized());
+	}
+
+	// Same, with a chosen diagonal kernel (e.g. MarginKernel.SCALAR)
+	public static int[] scoresOnly(int[] arr, DiagonalKernel kernel) {
+	    SolverMetrics.Sample sample = SolverMetrics.get().startSolve();
+	    try {
+	        return sweepScores(arr, kernel);
+	    } finally {
+	        sample.finish(arr.length);
+	    }
+	}
+
+	private static int[] sweepScores(int[] arr, DiagonalKernel kernel) {
+	    int n = arr.length;
+	    if (n == 0) {
+	        return new int[] { 0, 0 };
+	    }
+	    if (n >= TiledSolver.MIN_BLOCKED_COINS) { // Diagonals outgrow L2: sweep in cache-sized tiles
+	        return scoresFromMargin(arr, TiledSolver.margin(arr, kernel, TiledSolver.DEFAULT_TILE_SIZE));
+	    }
+	    int[] prev = arr.clone(); // Margins on diagonal length - 1 (base case: the coin itself)
+	    int[] cur = new int[n];   // Margins on the diagonal being filled
+
+	    for (int length = 2; length <= n; length++) {
+	        kernel.fillDiagonal(arr, length, prev, 0, cur, 0, 0, n - length + 1);
+	        int[] swap = prev; // The diagonal just filled becomes the previous one
+	        prev = cur;
+	        cur = swap;
+	    }
+	    return scoresFromMargin(arr, prev[0]);
+	}
+
+	// Splits the total of the row into both players' scores given the first player's margin
+	static int[] scoresFromMargin(int[] arr, int margin) {
+	    long total = 0;
+	    for (int coin : arr) {
+	        total += coin;
+	    }
+	    return new int[] { (int) ((total + margin) / 2), (int) ((total - margin) / 2) };
+	}
+
+    public static void main(String[] args) {
+        int[] arr = {4, 15, 7, 3, 8, 9};
+        int[] chosenCoins = new int[arr.length]; // Allocate sufficient size for chosen coins
+        int[] secondPlayerCoins = new int[arr.length];
+        int[][][] dp = maximumAmountOfCoins(arr, chosenCoins, secondPlayerCoins);
+
+        // Print the DP table with pairs of scores
+        System.out.println("\nDP Table (First and Second Player Scores):");
+        System.out.print("\t");
+        for (int i = 0; i < arr.length; i++) {
+            System.out.print(i + "\t");
+        }
+        System.out.println();
+        for (int i = 0; i < arr.length; i++) {
+            System.out.print(i + "\t");
+            for (int j = 0; j < arr.length; j++) {
+                if (j >= i) {
+                    System.out.print("(" + dp[i][j][0] + "," + dp[i][j][1] + ")\t");
+                } else {
+                    System.out.print("\t");
+                }
+            }
+            System.out.println();
+        }
+
+        System.out.println("\nOptimal result for first player: " + dp[0][arr.length - 1][0]);
+        System.out.print("Coins chosen by first player: ");
+        for (int coin : chosenCoins) {
+            if (coin != 0) { // Avoid printing unused slots in the array
+                System.out.print(coin + " ");
+            }
+        }
+        System.out.print("\nCoins chosen by second player: ");
+        for (int coin : secondPlayerCoins) {
+            if (coin != 0) { // Avoid printing unused slots in the array
+                System.out.print(coin + " ");
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package application;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// Random edits against a naive parse of the whole text after every edit
+class IncrementalCoinTokenizerTest {
+
+	private static final String ALPHABET = "0123456789,,,"; // Commas often enough for empty entries
+	private static final BigInteger INT_MAX = BigInteger.valueOf(Integer.MAX_VALUE);
+
+	@Test
+	void randomEditsMatchNaiveParse() {
+		Random random = new Random(1);
+		for (int trial = 0; trial < 200; trial++) {
+			IncrementalCoinTokenizer tokenizer = new IncrementalCoinTokenizer();
+			String text = "";
+			for (int edit = 0; edit < 300; edit++) {
+				int start = random.nextInt(text.length() + 1);
+				int end = start + random.nextInt(Math.min(5, text.length() - start) + 1);
+				StringBuilder inserted = new StringBuilder();
+				int count = random.nextInt(random.nextInt(10) == 0 ? 40 : 4); // Mostly typing, some pastes
+				for (int k = 0; k < count; k++) {
+					inserted.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+				}
+				if (random.nextInt(50) == 0) {
+					inserted.append("99999999999"); // Overflows an int
+				}
+
+				tokenizer.replace(text, start, end, inserted);
+				text = text.substring(0, start) + inserted + text.substring(end);
+				assertMatches(text, tokenizer);
+			}
+			IncrementalCoinTokenizer fresh = new IncrementalCoinTokenizer();
+			fresh.reset(text);
+			assertMatches(text, fresh);
+		}
+	}
+
+	@Test
+	void trailingCommaEndsTheList() {
+		IncrementalCoinTokenizer tokenizer = new IncrementalCoinTokenizer();
+		tokenizer.reset("1,2,");
+		assertEquals(2, tokenizer.size());
+		assertTrue(tokenizer.isValid());
+		assertEquals(-1, tokenizer.getErrorOffset());
+	}
+
+	@Test
+	void errorOffsetPointsAtTheNewEmptyEntry() {
+		IncrementalCoinTokenizer tokenizer = new IncrementalCoinTokenizer();
+		tokenizer.reset("1,2,3");
+		tokenizer.replace("1,2,3", 2, 3, ""); // "1,,3"
+		assertEquals(2, tokenizer.getErrorOffset());
+		assertEquals(1, tokenizer.getInvalidCount());
+		assertFalse(tokenizer.isValid());
+		assertArrayEquals(new int[] { 1, -1, 3 }, tokenizer.toArray());
+	}
+
+	@Test
+	void emptyTextHasNoCoins() {
+		IncrementalCoinTokenizer tokenizer = new IncrementalCoinTokenizer();
+		assertEquals(0, tokenizer.size());
+		assertEquals(0, tokenizer.getInvalidCount());
+		assertFalse(tokenizer.isValid());
+	}
+
+	private static void assertMatches(String text, IncrementalCoinTokenizer tokenizer) {
+		int[] invalid = new int[1];
+		int[] expected = naiveParse(text, invalid);
+		assertEquals(text.length(), tokenizer.length(), text);
+		assertEquals(expected.length, tokenizer.size(), text);
+		assertEquals(invalid[0], tokenizer.getInvalidCount(), text);
+		assertArrayEquals(expected, tokenizer.toArray(), text);
+	}
+
+	// split(",", -1) after dropping one trailing comma; empty or oversized entries become -1
+	private static int[] naiveParse(String text, int[] invalid) {
+		if (text.isEmpty()) {
+			return new int[0];
+		}
+		String list = text.endsWith(",") ? text.substring(0, text.length() - 1) : text;
+		String[] parts = list.split(",", -1);
+		int[] coins = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			if (parts[i].isEmpty() || new BigInteger(parts[i]).compareTo(INT_MAX) > 0) {
+				coins[i] = -1;
+				invalid[0]++;
+			} else {
+				coins[i] = Integer.parseInt(parts[i]);
+			}
+		}
+		return coins;
+	}
+}
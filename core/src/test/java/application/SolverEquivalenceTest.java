@@ -0,0 +1,178 @@
+package application;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Every solver variant must agree with maximumAmountOfCoins, which in turn must agree with the
+// original nested two-value DP kept below as the reference.
+class SolverEquivalenceTest {
+
+	private static final int[] SIZES = { 0, 1, 2, 3, 4, 5, 7, 8, 16, 31, 64, 65, 200, 513 };
+
+	private static ForkJoinPool pool;
+
+	@BeforeAll
+	static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterAll
+	static void stopPool() {
+		pool.shutdown();
+	}
+
+	// Surefire adds the incubator module; without it every "vector" case below would be scalar
+	@Test
+	void vectorKernelIsLoaded() {
+		assertTrue(MarginKernel.isVectorAvailable());
+	}
+
+	@Test
+	void maximumAmountOfCoinsMatchesReference() {
+		for (int[] coins : boards()) {
+			int n = coins.length;
+			int[][][] expected = reference(coins);
+			int[][][] actual = optimalGameSolution.maximumAmountOfCoins(coins, new int[n], new int[n]);
+			for (int i = 0; i < n; i++) {
+				for (int j = i; j < n; j++) {
+					assertEquals(expected[i][j][0], actual[i][j][0], "first[" + i + "][" + j + "] n=" + n);
+					assertEquals(expected[i][j][1], actual[i][j][1], "second[" + i + "][" + j + "] n=" + n);
+				}
+			}
+		}
+	}
+
+	@Test
+	void fullTableVariantsMatch() {
+		ParallelWavefrontSolver parallel = new ParallelWavefrontSolver(pool, 8); // Small grain: forces splits
+		for (int[] coins : boards()) {
+			int n = coins.length;
+			int[][][] expected = optimalGameSolution.maximumAmountOfCoins(coins, new int[n], new int[n]);
+			assertTable(expected, optimalGameSolution.solvePacked(coins).toArray(), "packed", n);
+			assertTable(expected, optimalGameSolution.solveMargins(coins, MarginKernel.SCALAR).toArray(),
+					"scalar margins", n);
+			assertTable(expected, optimalGameSolution.solveMargins(coins, MarginKernel.vectorized()).toArray(),
+					"vector margins", n);
+			assertTable(expected, parallel.solveMargins(coins).toArray(), "parallel margins", n);
+			assertTable(expected, new GameSolverService(GameSolverService.DEFAULT_MAX_BYTES).solve(coins).toArray(),
+					"service", n);
+		}
+	}
+
+	@Test
+	void scoreOnlyVariantsMatch() throws InterruptedException {
+		ParallelWavefrontSolver parallel = new ParallelWavefrontSolver(pool, 8);
+		ParallelWavefrontSolver scalarParallel = new ParallelWavefrontSolver(pool, 8, MarginKernel.SCALAR);
+		List<int[]> boards = boards();
+		List<int[]> expected = new ArrayList<>();
+		for (int[] coins : boards) {
+			int n = coins.length;
+			int[] scores = n == 0 ? new int[] { 0, 0 } : topScores(optimalGameSolution.maximumAmountOfCoins(coins,
+					new int[n], new int[n]));
+			expected.add(scores);
+
+			assertArrayEquals(scores, optimalGameSolution.scoresOnly(coins, MarginKernel.SCALAR),
+					"scalar scoresOnly n=" + n);
+			assertArrayEquals(scores, optimalGameSolution.scoresOnly(coins, MarginKernel.vectorized()),
+					"vector scoresOnly n=" + n);
+			assertArrayEquals(scores, parallel.scoresOnly(coins), "parallel scoresOnly n=" + n);
+			assertArrayEquals(scores, scalarParallel.scoresOnly(coins), "scalar parallel scoresOnly n=" + n);
+			for (int tileSize : new int[] { 1, 3, 8, 64, Integer.MAX_VALUE }) {
+				assertArrayEquals(scores, new TiledSolver(tileSize).scoresOnly(coins, MarginKernel.SCALAR),
+						"scalar tiled " + tileSize + " n=" + n);
+				assertArrayEquals(scores, new TiledSolver(tileSize).scoresOnly(coins, MarginKernel.vectorized()),
+						"vector tiled " + tileSize + " n=" + n);
+			}
+
+			IncrementalGameSolver incremental = new IncrementalGameSolver();
+			incremental.append(coins);
+			assertArrayEquals(scores, incremental.scores(), "incremental n=" + n);
+		}
+
+		try (BatchSolver batch = new BatchSolver()) {
+			List<BoardResult> results = batch.solveAll(boards);
+			for (int k = 0; k < boards.size(); k++) {
+				assertEquals(expected.get(k)[0], results.get(k).getFirstScore(), "batch first #" + k);
+				assertEquals(expected.get(k)[1], results.get(k).getSecondScore(), "batch second #" + k);
+			}
+		}
+	}
+
+	// Large enough for scoresOnly to take the blocked path; checked against the unblocked sweep
+	@Test
+	void blockedScoreOnlyMatchesSweepOnLargeBoard() {
+		SplittableRandom random = new SplittableRandom(7);
+		int[] coins = new int[TiledSolver.MIN_BLOCKED_COINS + 5];
+		for (int i = 0; i < coins.length; i++) {
+			coins[i] = random.nextInt(1, 1001);
+		}
+		int[] expected = new TiledSolver(Integer.MAX_VALUE).scoresOnly(coins, MarginKernel.vectorized());
+		assertArrayEquals(expected, optimalGameSolution.scoresOnly(coins, MarginKernel.vectorized()));
+	}
+
+	private static int[] topScores(int[][][] dp) {
+		int last = dp.length - 1;
+		return new int[] { dp[0][last][0], dp[0][last][1] };
+	}
+
+	private static void assertTable(int[][][] expected, int[][][] actual, String variant, int n) {
+		for (int i = 0; i < n; i++) {
+			for (int j = i; j < n; j++) {
+				assertEquals(expected[i][j][0], actual[i][j][0], variant + " first[" + i + "][" + j + "] n=" + n);
+				assertEquals(expected[i][j][1], actual[i][j][1], variant + " second[" + i + "][" + j + "] n=" + n);
+			}
+		}
+	}
+
+	// Random boards of every size, plus ties and constant rows that exercise the tie-breaks
+	private static List<int[]> boards() {
+		SplittableRandom random = new SplittableRandom(42);
+		List<int[]> boards = new ArrayList<>();
+		for (int n : SIZES) {
+			int[] uniform = new int[n], small = new int[n], constant = new int[n];
+			for (int i = 0; i < n; i++) {
+				uniform[i] = random.nextInt(1, 1001);
+				small[i] = random.nextInt(0, 3);
+				constant[i] = 7;
+			}
+			boards.add(uniform);
+			boards.add(small);
+			boards.add(constant);
+		}
+		return boards;
+	}
+
+	// The original nested DP: dp[i][j] = {first player's best, second player's} on coins[i..j]
+	private static int[][][] reference(int[] coins) {
+		int n = coins.length;
+		int[][][] dp = new int[n][n][2];
+		for (int i = 0; i < n; i++) {
+			dp[i][i][0] = coins[i];
+		}
+		for (int length = 2; length <= n; length++) {
+			for (int i = 0; i <= n - length; i++) {
+				int j = i + length - 1;
+				int leftFirst = coins[i] + dp[i + 1][j][1];
+				int rightFirst = coins[j] + dp[i][j - 1][1];
+				if (leftFirst > rightFirst) {
+					dp[i][j][0] = leftFirst;
+					dp[i][j][1] = dp[i + 1][j][0];
+				} else {
+					dp[i][j][0] = rightFirst;
+					dp[i][j][1] = dp[i][j - 1][0];
+				}
+			}
+		}
+		return dp;
+	}
+}
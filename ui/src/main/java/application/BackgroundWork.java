@@ -0,0 +1,33 @@
+package application;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.concurrent.Task;
+
+// Runs the scenes' solve, load and parse tasks off the JavaFX application thread. The threads are
+// daemons so a solve still running never keeps the application alive after the window closes.
+public class BackgroundWork {
+
+	private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "background-work");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private BackgroundWork() {
+	}
+
+	// Starts the task; its handlers (setOnSucceeded and so on) run back on the FX thread
+	public static <T> Task<T> start(Task<T> task) {
+		EXECUTOR.execute(task);
+		return task;
+	}
+
+	// Cancels a task that may be null or already finished
+	public static void cancel(Task<?> task) {
+		if (task != null && task.isRunning()) {
+			task.cancel(true);
+		}
+	}
+}
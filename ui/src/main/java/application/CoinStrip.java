@@ -0,0 +1,163 @@
+package application;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+// A row of coins painted on one Canvas instead of one Button per coin. Clicks are mapped back to a
+// coin index arithmetically, taking a coin repaints only that coin's square, and scrolling repaints
+// only the coins in view, so the cost follows the viewport rather than the number of coins.
+public class CoinStrip extends BorderPane {
+
+	private static final double DIAMETER = 50;
+	private static final double GAP = 10;
+	private static final double PITCH = DIAMETER + GAP;
+	private static final double HEIGHT = DIAMETER + 2 * GAP;
+	private static final int PREFERRED_COINS = 12; // Visible without scrolling at the preferred width
+
+	private static final Color FREE = Color.web("#FFD700");
+	private static final Color BORDER = Color.web("#DAA520");
+
+	private static final byte NONE = 0, FIRST = 1, SECOND = 2;
+
+	private final int[] coins;
+	private final byte[] owners; // Who took each coin: NONE, FIRST or SECOND
+	private final Color firstColor;
+	private final Color secondColor;
+	private final Color background;
+	private final Canvas canvas = new Canvas();
+	private final ScrollBar scrollBar = new ScrollBar();
+	private IntConsumer onCoinClicked = index -> {
+	};
+
+	public CoinStrip(int[] coins, Color firstColor, Color secondColor, Color background) {
+		this.coins = coins;
+		this.owners = new byte[coins.length];
+		this.firstColor = firstColor;
+		this.secondColor = secondColor;
+		this.background = background;
+
+		Pane holder = new Pane(canvas);
+		holder.setMinSize(0, HEIGHT);
+		holder.setPrefSize(GAP + Math.min(coins.length, PREFERRED_COINS) * PITCH, HEIGHT);
+		holder.setMaxHeight(HEIGHT);
+		canvas.widthProperty().bind(holder.widthProperty());
+		canvas.setHeight(HEIGHT);
+		canvas.widthProperty().addListener((obs, oldValue, newValue) -> updateScrollBar());
+		scrollBar.valueProperty().addListener((obs, oldValue, newValue) -> redraw());
+		scrollBar.setUnitIncrement(PITCH);
+		scrollBar.visibleProperty().bind(scrollBar.maxProperty().greaterThan(0));
+		scrollBar.managedProperty().bind(scrollBar.visibleProperty());
+
+		canvas.setOnMouseClicked(e -> {
+			int index = indexAt(e.getX(), e.getY());
+			if (index >= 0) {
+				onCoinClicked.accept(index);
+			}
+		});
+		canvas.setOnScroll(e -> {
+			double delta = e.getDeltaX() != 0 ? e.getDeltaX() : e.getDeltaY();
+			scrollBar.setValue(Math.max(0, Math.min(scrollBar.getMax(), scrollBar.getValue() - delta)));
+		});
+
+		setCenter(holder);
+		setBottom(scrollBar);
+	}
+
+	public void setOnCoinClicked(IntConsumer handler) {
+		this.onCoinClicked = handler;
+	}
+
+	// Marks the coin as taken by the first or second player and repaints just that coin
+	public void take(int index, boolean first) {
+		owners[index] = first ? FIRST : SECOND;
+		drawCoin(canvas.getGraphicsContext2D(), index);
+	}
+
+	public boolean isTaken(int index) {
+		return owners[index] != NONE;
+	}
+
+	// Puts every coin back on the strip
+	public void reset() {
+		Arrays.fill(owners, NONE);
+		redraw();
+	}
+
+	// Scrolls just far enough for the coin to be in view
+	public void scrollTo(int index) {
+		double left = GAP + index * PITCH, right = left + DIAMETER;
+		double value = scrollBar.getValue();
+		if (left < value) {
+			scrollBar.setValue(left - GAP);
+		} else if (right > value + canvas.getWidth()) {
+			scrollBar.setValue(Math.min(scrollBar.getMax(), right + GAP - canvas.getWidth()));
+		}
+	}
+
+	// Coin under the point, or -1 for the gaps between coins
+	private int indexAt(double x, double y) {
+		double offset = x + scrollBar.getValue() - GAP;
+		int index = (int) Math.floor(offset / PITCH);
+		if (offset < 0 || index >= coins.length || offset - index * PITCH > DIAMETER) {
+			return -1;
+		}
+		double dx = offset - index * PITCH - DIAMETER / 2, dy = y - HEIGHT / 2;
+		return dx * dx + dy * dy <= DIAMETER * DIAMETER / 4 ? index : -1;
+	}
+
+	private void updateScrollBar() {
+		double content = GAP + coins.length * PITCH;
+		scrollBar.setMax(Math.max(0, content - canvas.getWidth()));
+		scrollBar.setVisibleAmount(canvas.getWidth());
+		scrollBar.setBlockIncrement(canvas.getWidth());
+		redraw();
+	}
+
+	private void redraw() {
+		GraphicsContext g = canvas.getGraphicsContext2D();
+		g.setFill(background);
+		g.fillRect(0, 0, canvas.getWidth(), HEIGHT);
+		if (coins.length == 0) {
+			return;
+		}
+		int first = Math.max(0, (int) ((scrollBar.getValue() - GAP) / PITCH));
+		int last = Math.min(coins.length - 1, (int) ((scrollBar.getValue() + canvas.getWidth()) / PITCH));
+		for (int i = first; i <= last; i++) {
+			drawCoin(g, i);
+		}
+	}
+
+	private void drawCoin(GraphicsContext g, int index) {
+		double x = GAP + index * PITCH - scrollBar.getValue();
+		if (x + DIAMETER < 0 || x > canvas.getWidth()) {
+			return; // Out of view; painted when scrolled in
+		}
+		double y = GAP;
+		g.setFill(background); // Clear the coin's square only
+		g.fillRect(x - 1, y - 1, DIAMETER + 2, DIAMETER + 2);
+
+		byte owner = owners[index];
+		g.setFill(owner == FIRST ? firstColor : owner == SECOND ? secondColor : FREE);
+		g.fillOval(x, y, DIAMETER, DIAMETER);
+		g.setStroke(BORDER);
+		g.setLineWidth(2);
+		g.strokeOval(x + 1, y + 1, DIAMETER - 2, DIAMETER - 2);
+
+		g.setFill(owner == NONE ? Color.BLACK : Color.WHITE);
+		g.setFont(Font.font("System", FontWeight.BOLD, coins[index] >= 10_000 ? 11 : 14));
+		g.setTextAlign(TextAlignment.CENTER);
+		g.setTextBaseline(VPos.CENTER);
+		g.fillText(String.valueOf(coins[index]), x + DIAMETER / 2, y + DIAMETER / 2, DIAMETER - 6);
+	}
+}
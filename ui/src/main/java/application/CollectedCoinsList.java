@@ -0,0 +1,51 @@
+package application;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+// Virtualized list of the coins one player has collected. Only the rows in view have cells, so a
+// player holding thousands of coins costs the same to show as one holding ten.
+public class CollectedCoinsList extends ListView<Integer> {
+
+	private final ObservableList<Integer> coins = FXCollections.observableArrayList();
+
+	public CollectedCoinsList(String textColor, String background) {
+		setItems(coins);
+		setFocusTraversable(false);
+		setPrefWidth(120);
+		setStyle("-fx-background-color: " + background + "; -fx-control-inner-background: " + background + ";");
+		String cellStyle = "-fx-font-size: 16px; -fx-font-weight: bold; -fx-alignment: CENTER; -fx-text-fill: "
+				+ textColor + "; -fx-background-color: " + background + ";";
+		setCellFactory(list -> {
+			ListCell<Integer> cell = new ListCell<Integer>() {
+				@Override
+				protected void updateItem(Integer value, boolean empty) {
+					super.updateItem(value, empty);
+					setText(empty || value == null ? null : value.toString());
+				}
+			};
+			cell.setStyle(cellStyle); // Set once per cell, not once per coin
+			return cell;
+		});
+	}
+
+	public void add(int coin) {
+		coins.add(coin);
+		scrollTo(coins.size() - 1);
+	}
+
+	// Adds many coins as one change, so the list lays out once
+	public void addAll(int[] values, int count) {
+		Integer[] boxed = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			boxed[i] = values[i];
+		}
+		coins.addAll(boxed);
+	}
+
+	public void clear() {
+		coins.clear();
+	}
+}
@@ -0,0 +1,51 @@
+package application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Formats DP cells on demand for the table views. Only the cells that table cells actually ask for
+// are turned into strings, and the most recent ones are kept in a small LRU cache so scrolling back
+// over the visible window does not format them again. Used from the FX thread only.
+public class DPCellFormatter {
+
+	public static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final SolvedBoard board;
+	private final Map<Long, String> cache;
+
+	public DPCellFormatter(SolvedBoard board) {
+		this(board, DEFAULT_CACHE_SIZE);
+	}
+
+	public DPCellFormatter(SolvedBoard board, int cacheSize) {
+		if (cacheSize < 1) {
+			throw new IllegalArgumentException("Cache size must be positive: " + cacheSize);
+		}
+		this.board = board;
+		this.cache = new LinkedHashMap<Long, String>(64, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	public SolvedBoard getBoard() {
+		return board;
+	}
+
+	// "(first, second)" for cell (i, j), empty below the diagonal or outside the board
+	public String format(int i, int j) {
+		int n = board.size();
+		if (i < 0 || j >= n || j < i) {
+			return "";
+		}
+		Long key = (long) i * n + j;
+		String value = cache.get(key);
+		if (value == null) {
+			value = "(" + board.first(i, j) + ", " + board.second(i, j) + ")";
+			cache.put(key, value);
+		}
+		return value;
+	}
+}
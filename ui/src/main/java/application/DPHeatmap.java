@@ -0,0 +1,42 @@
+package application;
+
+import java.util.stream.IntStream;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+// Zoomed-out picture of the whole DP table. Each pixel samples one cell of its block of the upper
+// triangle and is coloured by the first player's share of that subarray: red when the player to
+// move loses the subarray, green when they win it, dark below the diagonal. Pixels are computed
+// row by row in parallel, so the cost depends on the image size and not on n.
+public class DPHeatmap {
+
+	private static final int BELOW_DIAGONAL = 0xFF1E1E1E;
+
+	private DPHeatmap() {
+	}
+
+	public static WritableImage render(SolvedBoard board, int width, int height) {
+		int n = board.size();
+		int[] pixels = new int[width * height];
+		IntStream.range(0, height).parallel().forEach(y -> {
+			int i = (int) ((long) y * n / height);
+			for (int x = 0; x < width; x++) {
+				int j = (int) ((long) x * n / width);
+				pixels[y * width + x] = j < i ? BELOW_DIAGONAL : color(board.margin(i, j), board.total(i, j));
+			}
+		});
+
+		WritableImage image = new WritableImage(width, height);
+		image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+		return image;
+	}
+
+	// margin / total is in [-1, 1] for non-negative coins; map it onto red .. yellow .. green
+	private static int color(int margin, int total) {
+		double share = total == 0 ? 0 : Math.max(-1, Math.min(1, (double) margin / total));
+		int red = (int) (255 * Math.min(1, 1 - share));
+		int green = (int) (255 * Math.min(1, 1 + share));
+		return 0xFF000000 | (red << 16) | (green << 8) | 0x30;
+	}
+}
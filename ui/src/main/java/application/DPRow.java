@@ -0,0 +1,21 @@
+package application;
+
+// Row class to represent each row in the table. A row only remembers its index; cell text is
+// produced by the shared formatter when a table cell asks for it.
+public class DPRow {
+    private final int index;
+    private final DPCellFormatter formatter;
+
+    public DPRow(int index, DPCellFormatter formatter) {
+        this.index = index;
+        this.formatter = formatter;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getValueAt(int col) {
+        return formatter.format(index, col);
+    }
+}
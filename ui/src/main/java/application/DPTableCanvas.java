@@ -0,0 +1,129 @@
+package application;
+
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+// DP table viewer that draws straight from the solved board onto one Canvas. Only the cells inside
+// the viewport are formatted and painted, so opening and scrolling cost the same for any n.
+// Scroll bars count whole rows and columns.
+public class DPTableCanvas extends BorderPane {
+
+	private static final double CELL_WIDTH = 100;
+	private static final double CELL_HEIGHT = 28;
+	private static final double HEADER_HEIGHT = 30;
+	private static final double INDEX_WIDTH = 70;
+
+	private static final Color BACKGROUND = Color.web("#1E1E1E");
+	private static final Color CELL = Color.web("#3E3E3E");
+	private static final Color GOLD = Color.web("#FFD700");
+
+	private final SolvedBoard board;
+	private final Canvas canvas = new Canvas();
+	private final ScrollBar horizontal = new ScrollBar();
+	private final ScrollBar vertical = new ScrollBar();
+
+	public DPTableCanvas(SolvedBoard board) {
+		this.board = board;
+		int n = board.size();
+
+		vertical.setOrientation(Orientation.VERTICAL);
+		vertical.setMax(Math.max(n - 1, 0));
+		horizontal.setMax(Math.max(n - 1, 0));
+		vertical.setUnitIncrement(1);
+		horizontal.setUnitIncrement(1);
+		vertical.setBlockIncrement(10);
+		horizontal.setBlockIncrement(5);
+
+		// The canvas follows the size of its holder; redraw whenever the view changes
+		Pane holder = new Pane(canvas);
+		holder.setMinSize(0, 0);
+		canvas.widthProperty().bind(holder.widthProperty());
+		canvas.heightProperty().bind(holder.heightProperty());
+		canvas.widthProperty().addListener((obs, oldValue, newValue) -> redraw());
+		canvas.heightProperty().addListener((obs, oldValue, newValue) -> redraw());
+		horizontal.valueProperty().addListener((obs, oldValue, newValue) -> redraw());
+		vertical.valueProperty().addListener((obs, oldValue, newValue) -> redraw());
+
+		canvas.setOnScroll(e -> {
+			ScrollBar bar = e.isShiftDown() || Math.abs(e.getDeltaX()) > Math.abs(e.getDeltaY()) ? horizontal : vertical;
+			double delta = bar == horizontal ? (e.getDeltaX() != 0 ? e.getDeltaX() : e.getDeltaY()) : e.getDeltaY();
+			bar.setValue(clamp(bar.getValue() - Math.signum(delta) * 3, bar.getMax()));
+		});
+
+		setCenter(holder);
+		setRight(vertical);
+		setBottom(horizontal);
+		setStyle("-fx-background-color: #1E1E1E; -fx-border-color: #FFD700; -fx-border-width: 2px;");
+	}
+
+	// Scrolls so that cell (row, column) is at the top-left corner
+	public void scrollTo(int row, int column) {
+		vertical.setValue(clamp(row, vertical.getMax()));
+		horizontal.setValue(clamp(column, horizontal.getMax()));
+	}
+
+	private void redraw() {
+		GraphicsContext g = canvas.getGraphicsContext2D();
+		double width = canvas.getWidth(), height = canvas.getHeight();
+		g.setFill(BACKGROUND);
+		g.fillRect(0, 0, width, height);
+
+		int n = board.size();
+		if (n == 0) {
+			return;
+		}
+		int firstRow = (int) vertical.getValue();
+		int firstColumn = (int) horizontal.getValue();
+		int rows = Math.min(n - firstRow, (int) Math.ceil((height - HEADER_HEIGHT) / CELL_HEIGHT));
+		int columns = Math.min(n - firstColumn, (int) Math.ceil((width - INDEX_WIDTH) / CELL_WIDTH));
+
+		g.setTextAlign(TextAlignment.CENTER);
+		g.setTextBaseline(VPos.CENTER);
+		g.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+		// Column headers and row indices
+		g.setFill(GOLD);
+		g.fillText("Index", INDEX_WIDTH / 2, HEADER_HEIGHT / 2);
+		for (int c = 0; c < columns; c++) {
+			g.fillText(String.valueOf(firstColumn + c), INDEX_WIDTH + c * CELL_WIDTH + CELL_WIDTH / 2, HEADER_HEIGHT / 2);
+		}
+		for (int r = 0; r < rows; r++) {
+			g.fillText(String.valueOf(firstRow + r), INDEX_WIDTH / 2, HEADER_HEIGHT + r * CELL_HEIGHT + CELL_HEIGHT / 2);
+		}
+
+		// Cells on or above the diagonal; only these exist in the table
+		g.setFont(Font.font("System", FontWeight.BOLD, 13));
+		g.setStroke(GOLD);
+		g.setLineWidth(0.5);
+		for (int r = 0; r < rows; r++) {
+			int i = firstRow + r;
+			double y = HEADER_HEIGHT + r * CELL_HEIGHT;
+			for (int c = 0; c < columns; c++) {
+				int j = firstColumn + c;
+				if (j < i) {
+					continue;
+				}
+				double x = INDEX_WIDTH + c * CELL_WIDTH;
+				g.setFill(CELL);
+				g.fillRect(x, y, CELL_WIDTH, CELL_HEIGHT);
+				g.strokeRect(x, y, CELL_WIDTH, CELL_HEIGHT);
+				g.setFill(GOLD);
+				g.fillText("(" + board.first(i, j) + ", " + board.second(i, j) + ")", x + CELL_WIDTH / 2,
+						y + CELL_HEIGHT / 2);
+			}
+		}
+	}
+
+	private static double clamp(double value, double max) {
+		return Math.max(0, Math.min(max, value));
+	}
+}
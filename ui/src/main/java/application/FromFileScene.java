@@ -1,5 +1,6 @@
 package application;
 
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -8,9 +9,7 @@ import javafx.scene.layout.*;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 
 public class FromFileScene {
@@ -18,6 +17,8 @@ public class FromFileScene {
     private TextField numOfCoinsTf, insertedCoinsTf;
     private Button loadFileBt, backBt, nextBt;
     private int[] coins;
+    private ProgressIndicator loadingIndicator;
+    private Task<int[]> loadTask; // File being read in the background, cancelled by Back
 
     public Scene createScene(Stage primaryStage, OptimalGameInterface mainGameScene) {
         // Header Label
@@ -53,10 +54,18 @@ public class FromFileScene {
 
         // Back Button
         backBt = createStyledButton("Back");
-        backBt.setOnAction(e -> primaryStage.setScene(mainGameScene.mainScene()));
+        backBt.setOnAction(e -> {
+            BackgroundWork.cancel(loadTask);
+            primaryStage.setScene(mainGameScene.mainScene());
+        });
+
+        // Spinner shown while a file is being read
+        loadingIndicator = new ProgressIndicator();
+        loadingIndicator.setPrefSize(30, 30);
+        loadingIndicator.setVisible(false);
 
         // vBox Configuration
-        VBox vBox = new VBox(15, headLb, numOfCoinsLb, numOfCoinsTf, insertedCoinsTf, loadFileBt, errorLb, nextBt,
+        VBox vBox = new VBox(15, headLb, numOfCoinsLb, numOfCoinsTf, insertedCoinsTf, loadFileBt, loadingIndicator, errorLb, nextBt,
                 backBt);
         vBox.setPadding(new Insets(20));
         vBox.setAlignment(Pos.CENTER);
@@ -96,65 +105,50 @@ public class FromFileScene {
         File file = fileChooser.showOpenDialog(stage);
 
         if (file != null) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                // Read the first line for the number of coins
-                String numOfCoinsLine = reader.readLine();
-                if (numOfCoinsLine == null || !numOfCoinsLine.matches("\\d+") || Integer.parseInt(numOfCoinsLine) % 2 != 0) {
-                    errorLb.setText("First line must be an even integer which is the number of coins.");
-                    return;
-                }
-
-                int numOfCoins = Integer.parseInt(numOfCoinsLine);
-
-                // Initialize the coins array based on the number of coins read
-                coins = new int[numOfCoins];
-
-                // Initialize StringBuilder to collect all coin values for display
-                StringBuilder coinsBuilder = new StringBuilder();
-
-                // Read each line for individual coin values and validate
-                String line;
-                int lineCount = 0;
-                while ((line = reader.readLine()) != null && lineCount < numOfCoins) {
-                    if (!line.matches("\\d+")) {
-                        errorLb.setText("Invalid format: Each line should contain a number.");
-                        return;
-                    }
-
-                    // Parse and store the coin value in the array
-                    coins[lineCount] = Integer.parseInt(line);
-                    coinsBuilder.append(line).append(",");
-
-                    lineCount++;
+            // Read and parse off the FX thread; the scene is updated once when the task ends
+            Task<int[]> task = new Task<int[]>() {
+                @Override
+                protected int[] call() throws IOException {
+                    return CoinFiles.load(file); // Text or binary, detected from the file header
                 }
-
-                // Check if the actual number of coins matches or exceeds the expected count
-                if (lineCount < numOfCoins) {
-                    errorLb.setText("The number of coins is less than the count specified in the first line.");
+            };
+            task.setOnSucceeded(e -> {
+                finishLoad();
+                coins = task.getValue();
+                if (coins.length % 2 != 0) {
+                    errorLb.setText("The number of coins in the file must be even.");
                     return;
                 }
 
-                // Remove the trailing comma and set TextFields only if all validations pass
-                if (coinsBuilder.length() > 0) {
-                    coinsBuilder.setLength(coinsBuilder.length() - 1); // Remove last comma
-                }
-                numOfCoinsTf.setText(numOfCoinsLine);
-                insertedCoinsTf.setText(coinsBuilder.toString());
+                // Show a bounded preview; the full list can be millions of coins
+                numOfCoinsTf.setText(String.valueOf(coins.length));
+                insertedCoinsTf.setText(CoinPreview.format(coins));
 
                 errorLb.setText(""); // Clear error if the file is correctly loaded
                 nextBt.setDisable(false);
-
-            } catch (IOException e) {
-                errorLb.setText("Error reading the file. Please try again.");
+            });
+            task.setOnFailed(e -> {
+                finishLoad();
+                if (task.getException() instanceof CoinFileFormatException) {
+                    errorLb.setText(task.getException().getMessage());
+                } else {
+                    errorLb.setText("Error reading the file. Please try again.");
+                }
                 nextBt.setDisable(true);
+            });
+            task.setOnCancelled(e -> finishLoad());
 
-            } catch (NumberFormatException e) {
-                errorLb.setText("Invalid format in file. Please ensure it contains only numbers.");
-                nextBt.setDisable(true);
-            }
+            loadFileBt.setDisable(true);
+            loadingIndicator.setVisible(true);
+            loadTask = BackgroundWork.start(task);
         }
     }
 
+    private void finishLoad() {
+        loadFileBt.setDisable(false);
+        loadingIndicator.setVisible(false);
+    }
+
     private void validateInput() {
         if (numOfCoinsTf.getText().isEmpty() || insertedCoinsTf.getText().isEmpty()) {
             errorLb.setText("Please load a file containing the coins.");
@@ -16,6 +16,7 @@ public class ManualScene {
 	private TextField numOfCoinsTf, insertedCoins;
 	private Button nextBt, backBt;
 	private int[] coins;
+	private final IncrementalCoinTokenizer tokenizer = new IncrementalCoinTokenizer(); // Mirrors insertedCoins
 
 	public Scene createScene(Stage primaryStage, OptimalGameInterface mainGameScene) {
 		// Header Label
@@ -50,13 +51,10 @@ public class ManualScene {
 		nextBt = createStyledButton("Next");
 		nextBt.setDisable(true);
 
-		nextBt.setOnAction(e -> {
-		    validateInput(); // Trigger validation on button click
-		    if (errorLb.getText().isEmpty()) { // Proceed if there are no errors
-		        PlayingWayScene playingWayScene = new PlayingWayScene(coins); // Pass coins to next scene
-		        primaryStage.setScene(playingWayScene.createScene(primaryStage, mainGameScene));
-		    }
-		});
+		nextBt.setOnAction(e -> validateInput(() -> { // Proceed once the coins parse without errors
+		    PlayingWayScene playingWayScene = new PlayingWayScene(coins); // Pass coins to next scene
+		    primaryStage.setScene(playingWayScene.createScene(primaryStage, mainGameScene));
+		}));
 
 		// Back Button Styling
 		backBt = createStyledButton("Back");
@@ -73,62 +71,71 @@ public class ManualScene {
 	}
 	private void setValidatedCommaSeparated(TextField insertedCoins, TextField numOfCoinsTf) {
 	    insertedCoins.setTextFormatter(new TextFormatter<>(change -> {
-	        String newText = change.getControlNewText();
-	        if (newText.isEmpty()) {
-	            errorLb.setText("");
-	            nextBt.setDisable(true); // Disable next button if field is empty
-	            return change;
+	        // Only the inserted characters are checked; the rest of the text was checked before
+	        String inserted = change.getText();
+	        for (int i = 0; i < inserted.length(); i++) {
+	            char c = inserted.charAt(i);
+	            if (c != ',' && (c < '0' || c > '9')) {
+	                errorLb.setText("Invalid format: Use only numbers separated by commas.");
+	                nextBt.setDisable(true); // Disable next button if format is incorrect
+	                return null; // Reject change if it doesn't match the allowed pattern
+	            }
 	        }
-	        // Match numbers separated by commas but not requiring a trailing comma
-	        if (newText.matches("(\\d+,)*\\d*")) {
+
+	        // Re-parse only the entries the edit touched
+	        tokenizer.replace(change.getControlText(), change.getRangeStart(), change.getRangeEnd(), inserted);
+	        if (tokenizer.length() == 0) {
 	            errorLb.setText("");
-	            enableNextButtonIfValid(); // Check if both fields are valid
+	            nextBt.setDisable(true); // Disable next button if field is empty
 	            return change;
-	        } else {
-	            errorLb.setText("Invalid format: Use only numbers separated by commas.");
-	            nextBt.setDisable(true); // Disable next button if format is incorrect
-	            return null; // Reject change if it doesn't match the allowed pattern
 	        }
+	        errorLb.setText("");
+	        enableNextButtonIfValid(); // Check if both fields are valid
+	        return change;
 	    }));
 	}
 
 	private void validateInput() {
-	    String text = insertedCoins.getText();
-
-	    // Remove any trailing comma before validation
-	    if (text.endsWith(",")) {
-	        text = text.substring(0, text.length() - 1);
-	    }
+	    validateInput(null);
+	}
 
-	    if (numOfCoinsTf.getText().isEmpty() || text.isEmpty()) { // Check if fields are filled
+	// Checks the fields against the parsed entries in O(1); onValid runs if everything is in order
+	private void validateInput(Runnable onValid) {
+	    if (numOfCoinsTf.getText().isEmpty() || tokenizer.length() == 0) { // Check if fields are filled
 	        errorLb.setText("Please fill all fields.");
 	        nextBt.setDisable(true); // Disable Next button if fields are empty
 	        return;
 	    }
 
-	    String[] coinsArray = text.split(","); // Split the text by commas
+	    if (tokenizer.getInvalidCount() > 0) {
+	        int offset = tokenizer.getErrorOffset();
+	        errorLb.setText(offset >= 0
+	                ? "Missing or too large value at position " + (offset + 1) + "."
+	                : "Please enter valid integers separated by commas.");
+	        nextBt.setDisable(true); // Disable Next button if there is a parsing error
+	        return;
+	    }
+
 	    try {
 	        int expectedCoins = Integer.parseInt(numOfCoinsTf.getText()); // Parse the expected coin count
 
 	        // Check if the number of coins matches the entered count
-	        if (coinsArray.length != expectedCoins) {
-	            errorLb.setText("Please enter exactly " + expectedCoins + " coins.");
+	        if (tokenizer.size() != expectedCoins) {
+	            errorLb.setText("Please enter exactly " + expectedCoins + " coins (" + tokenizer.size() + " entered).");
 	            nextBt.setDisable(true); // Disable Next button if count is incorrect
 	            return;
 	        }
-
-	        // Parse the coins into an integer array
-	        coins = new int[coinsArray.length];
-	        for (int i = 0; i < coinsArray.length; i++) {
-	            coins[i] = Integer.parseInt(coinsArray[i].trim()); // Parse each coin as an integer
-	        }
-
-	        errorLb.setText(""); // Clear any previous error
-	        nextBt.setDisable(false); // Enable Next button
-
 	    } catch (NumberFormatException e) {
 	        errorLb.setText("Please enter valid integers separated by commas.");
 	        nextBt.setDisable(true); // Disable Next button if there is a parsing error
+	        return;
+	    }
+
+	    errorLb.setText(""); // Clear any previous error
+	    nextBt.setDisable(false); // Enable Next button
+	    if (onValid != null) {
+	        coins = tokenizer.toArray(); // Copied once, when the player moves on
+	        onValid.run();
 	    }
 	}
 
@@ -169,7 +176,7 @@ public class ManualScene {
 		}
 
 	private void enableNextButtonIfValid() {
-		if (!numOfCoinsTf.getText().isEmpty() && !insertedCoins.getText().isEmpty() && errorLb.getText().isEmpty()) {
+		if (!numOfCoinsTf.getText().isEmpty() && tokenizer.length() > 0 && errorLb.getText().isEmpty()) {
 			validateInput();
 		} else {
 			nextBt.setDisable(true);
@@ -20,6 +20,7 @@ public class OptimalGameInterface extends Application {
 	@Override
 	public void start(Stage stage) {
 	    this.primaryStage = stage; // Assign the primary stage
+	    SolverMetrics.registerMBean(); // Long-lived process: worth publishing over JMX
 	    primaryStage.setTitle("Optimal Game Strategy - Coin Setup");
 	    primaryStage.setScene(mainScene());
 	    primaryStage.show();
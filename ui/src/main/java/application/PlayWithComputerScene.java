@@ -0,0 +1,638 @@
+package application;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+public class PlayWithComputerScene {
+
+	private static final int TABLE_VIEW_LIMIT = 50; // Largest board shown with one TableColumn per coin
+	private static final int HEATMAP_SIZE = 512;
+
+	private int[] coins;
+	private CoinStrip coinStrip; // All coins, drawn on one canvas
+	private int playerScore = 0, computerScore = 0;
+	private Label playerScoreLabel, computerScoreLabel, currentPlayerLabel, boundsLabel, suggestionLabel;
+	private CollectedCoinsList playerCoinsList, computerCoinsList; // Chosen coins, virtualized
+	private Button startButton, showResultsButton, finalResultBt, showStepsBt, playAgainButton, showDbTableBt;
+	private Move[] steps; // Moves actually played, for "Show Steps" and the export
+	private int currentStepIndex = 0; // Track the current step
+	private int start, end; // Coins still on the table: coins[start..end]
+	private boolean playerTurn = true;
+	private ParityFastPath.Result parity; // Null for an odd number of coins
+	private SolvedBoard board; // Solved DP table for scores
+	private boolean isGameStarted = false;
+	private Task<SolvedBoard> solveTask; // Background solve started by Start, cancelled by Play Again
+	private ProgressBar solveProgressBar;
+	private Label solveProgressLabel;
+
+	public PlayWithComputerScene(int[] coins) {
+		this.coins = coins;
+		this.steps = new Move[coins.length]; // Array size equals the number of coins
+	}
+
+	public Scene createScene(Stage primaryStage, OptimalGameInterface mainGameScene) {
+		// Initialize Buttons Early
+		startButton = createStyledButton("Start");
+		showResultsButton = createStyledButton("Show Results");
+		finalResultBt = createStyledButton("Final Result");
+		showStepsBt = createStyledButton("Show Steps");
+		playAgainButton = createStyledButton("Play Again");
+		showDbTableBt = createStyledButton("Show DB Table");
+
+		showResultsButton.setDisable(true);
+		finalResultBt.setVisible(false);
+		showStepsBt.setVisible(false); // Ensure it's hidden initially
+		playAgainButton.setVisible(false);
+		showDbTableBt.setVisible(false);
+
+		// Header Label
+		Label header = new Label("Optimal Game: Player vs Computer");
+		header.setStyle(
+				"-fx-font-size: 24px; -fx-font-weight: bold;-fx-text-border-color: White; -fx-text-fill: #FFD700;");
+
+		currentPlayerLabel = new Label("Current Player: Player");
+		currentPlayerLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #FFD700;");
+
+		playerScoreLabel = new Label("Player Score:");
+		playerScoreLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #800080;"); // Purple for player
+
+		computerScoreLabel = new Label("Computer Score:");
+		computerScoreLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #008000;"); // Green for computer
+
+		boundsLabel = new Label(); // Filled by the parity fast path when the game starts
+		boundsLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #2F4F4F;");
+		suggestionLabel = new Label(); // Parity hint for the first move, only while the solve runs
+		suggestionLabel.setStyle(boundsLabel.getStyle());
+
+		// Shown while the DP table is being filled in the background
+		solveProgressBar = new ProgressBar(0);
+		solveProgressBar.setPrefWidth(300);
+		solveProgressLabel = new Label();
+		solveProgressLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #2F4F4F;");
+		HBox solveProgressBox = new HBox(10, solveProgressBar, solveProgressLabel);
+		solveProgressBox.setAlignment(Pos.CENTER);
+		solveProgressBox.visibleProperty().bind(solveProgressLabel.textProperty().isNotEmpty());
+
+		// Coin strip: one canvas for any number of coins
+		coinStrip = new CoinStrip(coins, Color.web("#800080"), Color.web("#008000"), Color.web("#D3D3D3"));
+		HBox.setHgrow(coinStrip, Priority.ALWAYS);
+
+		// Ensure "Show Table" and "Play Again" buttons are always visible
+		playAgainButton.setVisible(true);
+		showDbTableBt.setVisible(true);
+
+		// Player and Computer Areas
+		playerCoinsList = new CollectedCoinsList("white", "#FFD700");
+		VBox playerArea = createCoinArea("Player's Coins", playerCoinsList, "#800080");
+		computerCoinsList = new CollectedCoinsList("white", "#FFD700");
+		VBox computerArea = createCoinArea("Computer's Coins", computerCoinsList, "#008000");
+
+		// Button Actions
+		startButton.setOnAction(e -> startGame()); // The game is marked started once the solve finishes
+		showResultsButton.setOnAction(e -> {
+			finalResultBt.setVisible(true);
+			showStepsBt.setVisible(true);
+			playAgainButton.setVisible(true);
+			showDbTableBt.setVisible(true);
+		});
+		finalResultBt.setOnAction(e -> showFinalResult(primaryStage));
+		showStepsBt.setOnAction(e -> replaySteps()); // Show steps dynamically
+		playAgainButton.setOnAction(e -> {
+			BackgroundWork.cancel(solveTask); // Leaving the screen; the result would never be shown
+			OptimalGameInterface mainInterface = new OptimalGameInterface();
+			primaryStage.setScene(mainInterface.mainScene());
+		});
+		showDbTableBt.setOnAction(e -> {
+			if (isGameStarted) { // Ensure the game has started before showing the table
+				showDpTable(primaryStage, board, primaryStage.getScene());
+			}
+		});
+
+		// Layout configuration		
+		HBox mainLayout = new HBox(50, playerArea, coinStrip, computerArea);
+		mainLayout.setAlignment(Pos.CENTER);
+
+		HBox actionButtons = new HBox(10, playAgainButton, showDbTableBt);
+		actionButtons.setAlignment(Pos.CENTER);
+
+		VBox controls = new VBox(10, startButton, showResultsButton, finalResultBt, showStepsBt, actionButtons);
+		controls.setAlignment(Pos.CENTER);
+
+		VBox layout = new VBox(20, header, currentPlayerLabel, mainLayout, playerScoreLabel, computerScoreLabel,
+				boundsLabel, suggestionLabel, solveProgressBox, controls);
+		layout.setAlignment(Pos.CENTER);
+		layout.setPadding(new Insets(30));
+		layout.setStyle("-fx-background-color: #D3D3D3;"); // Dark gray background
+
+		return new Scene(layout, 1200, 800);
+	}
+
+	private VBox createCoinArea(String title, CollectedCoinsList list, String borderColor) {
+		Label areaLabel = new Label(title);
+		areaLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: white; -fx-font-weight: bold;");
+		list.setPrefHeight(250);
+		VBox area = new VBox(10, areaLabel, list);
+		area.setAlignment(Pos.CENTER);
+		area.setStyle("-fx-background-color: #FFD700; -fx-border-color: " + borderColor + "; -fx-border-width: 5px;");
+		area.setPadding(new Insets(30));
+		return area;
+	}
+
+	private void startGame() {
+		System.out.println("Starting new game...");
+		BackgroundWork.cancel(solveTask); // A second Start replaces a solve still running
+		isGameStarted = false;
+		resetGameState();
+		showParityBounds(); // O(n) bounds, shown before the exact solve
+		startButton.setDisable(true);
+
+		// Fill the DP table off the FX thread; Task coalesces progress updates to one per pulse
+		Task<SolvedBoard> task = new Task<SolvedBoard>() {
+			@Override
+			protected SolvedBoard call() {
+				return GameSolverService.shared().solve(coins, (done, total) -> {
+					updateProgress(done, total);
+					return !isCancelled();
+				});
+			}
+		};
+		solveProgressBar.progressProperty().bind(task.progressProperty());
+		solveProgressLabel.setText("Solving...");
+		task.workDoneProperty().addListener((obs, oldValue, newValue) -> {
+			if (task.isRunning()) {
+				solveProgressLabel.setText("Solving: " + newValue.longValue() + " / " + (long) task.getTotalWork()
+						+ " diagonals");
+			}
+		});
+		task.setOnSucceeded(e -> {
+			if (task != solveTask) {
+				return; // Replaced by a newer Start
+			}
+			finishSolve(task);
+			board = task.getValue();
+			gameSol(); // Play the game optimally and show it in one update
+			isGameStarted = true;
+			showDbTableBt.setVisible(true);
+			showResultsButton.setDisable(false);
+		});
+		task.setOnCancelled(e -> finishSolve(task));
+		task.setOnFailed(e -> {
+			finishSolve(task);
+			task.getException().printStackTrace();
+			Alert alert = new Alert(Alert.AlertType.ERROR, "An error occurred: " + task.getException().getMessage());
+			alert.showAndWait();
+		});
+		solveTask = BackgroundWork.start(task);
+	}
+
+	private void finishSolve(Task<SolvedBoard> task) {
+		if (task != solveTask) {
+			return; // Replaced by a newer Start
+		}
+		suggestionLabel.setText("");
+		solveProgressBar.progressProperty().unbind();
+		solveProgressLabel.setText("");
+		startButton.setDisable(false);
+	}
+
+	private void showParityBounds() {
+		if (coins.length % 2 != 0) {
+			boundsLabel.setText(""); // The parity strategy needs an even number of coins
+			suggestionLabel.setText("");
+			return;
+		}
+		parity = ParityFastPath.evaluate(coins);
+		boundsLabel.setText("Player Score Bounds: " + parity); // Only the lower bound is guaranteed
+
+		// Only a hint: no move is played until the exact table arrives, so the game stays optimal
+		int index = ParityFastPath.nextMove(start, end, parity.getParity());
+		suggestionLabel.setText("Suggested first move (parity strategy, not played): coin " + index + " ("
+				+ coins[index] + ")");
+	}
+
+	private void disableGameButtons() {
+		startButton.setDisable(true);
+		finalResultBt.setVisible(false);
+		showStepsBt.setVisible(false);
+		playAgainButton.setVisible(false);
+		showDbTableBt.setVisible(false);
+	}
+
+	// Plays the whole game optimally on the solved board, records the moves for Show Steps and the
+	// export, and shows them in a single UI update
+	private void gameSol() {
+		int remaining = end - start + 1;
+		int[] playerCoins = new int[(remaining + 1) / 2], computerCoins = new int[(remaining + 1) / 2];
+		int playerCount = 0, computerCount = 0;
+
+		// Backtrack to find the chosen coins for both players
+		boolean firstPlayerTurn = playerTurn; // Track whose turn it is
+		int moveIndex = currentStepIndex; // Track steps
+
+		while (start <= end) {
+		    int selectedIndex;
+		    if (start == end || coins[start] - board.margin(start + 1, end) == board.margin(start, end)) {
+		        selectedIndex = start; // Taking the left coin is optimal
+		        start++;
+		    } else {
+		        selectedIndex = end;
+		        end--;
+		    }
+		    if (SolveTrace.ENABLED) {
+		        SolveTrace.global().record(SolveTrace.MOVE, selectedIndex, selectedIndex, coins[selectedIndex],
+		                firstPlayerTurn ? 0 : 1);
+		    }
+
+		    // Record the step
+		    steps[moveIndex++] = new Move(firstPlayerTurn, selectedIndex, coins[selectedIndex]);
+
+		    // Collect the coin for its area and update scores
+		    if (firstPlayerTurn) {
+		        playerCoins[playerCount++] = coins[selectedIndex];
+		        playerScore += coins[selectedIndex];
+		    } else {
+		        computerCoins[computerCount++] = coins[selectedIndex];
+		        computerScore += coins[selectedIndex];
+		    }
+
+		    firstPlayerTurn = !firstPlayerTurn; // Switch turns
+		}
+
+		currentStepIndex = moveIndex; // Update the total number of moves
+		playerTurn = firstPlayerTurn;
+
+		playerCoinsList.addAll(playerCoins, playerCount);
+		computerCoinsList.addAll(computerCoins, computerCount);
+		playerScoreLabel.setText("Player Score: " + playerScore);
+		computerScoreLabel.setText("Computer Score: " + computerScore);
+	}
+
+	private void replaySteps() {
+		playerScore = 0;
+		computerScore = 0;
+
+		playerScoreLabel.setText("Player Score: " + playerScore);
+		computerScoreLabel.setText("Computer Score: " + computerScore);
+		playerCoinsList.clear();
+		computerCoinsList.clear();
+		coinStrip.reset();
+
+		if (currentStepIndex == 0) {
+			Alert alert = new Alert(Alert.AlertType.WARNING);
+			alert.setTitle("No Steps Available");
+			alert.setHeaderText(null);
+			alert.setContentText("No steps to show. Please start the game first!");
+			alert.showAndWait();
+			return;
+		}
+
+		PauseTransition pause = new PauseTransition(Duration.seconds(1));
+		int[] index = { 0 }; // Use an array to track the current step
+
+		pause.setOnFinished(event -> {
+			if (index[0] < currentStepIndex) {
+				Move move = steps[index[0]];
+				highlightCoin(move.index, move.isPlayer); // Purple for player, green for computer
+				moveCoinToArea(move.index, move.isPlayer);
+				index[0]++;
+				pause.playFromStart(); // Continue to the next step
+			}
+		});
+
+		pause.play();
+	}
+
+	private void highlightCoin(int index, boolean isPlayer) {
+		coinStrip.scrollTo(index);
+		coinStrip.take(index, isPlayer); // Repaints only this coin
+	}
+
+	private void moveCoinToArea(int index, boolean isPlayer) {
+		if (SolveTrace.ENABLED) {
+			SolveTrace.global().record(SolveTrace.MOVE, index, index, coins[index], isPlayer ? 0 : 1);
+		}
+		if (isPlayer) {
+			playerCoinsList.add(coins[index]);
+			playerScore += coins[index];
+			playerScoreLabel.setText("Player Score: " + playerScore);
+		} else {
+			computerCoinsList.add(coins[index]);
+			computerScore += coins[index];
+			computerScoreLabel.setText("Computer Score: " + computerScore);
+		}
+	}
+
+	private void resetGameState() {
+		playerScore = 0;
+		computerScore = 0;
+		start = 0;
+		end = coins.length - 1;
+		playerTurn = true;
+		currentStepIndex = 0;
+		parity = null;
+
+		playerScoreLabel.setText("Player Score: " + playerScore);
+		computerScoreLabel.setText("Computer Score: " + computerScore);
+
+		playerCoinsList.clear();
+		computerCoinsList.clear();
+		coinStrip.reset();
+	}
+
+	private void showFinalResult(Stage primaryStage) {
+		// Create a VBox layout for the final result
+		VBox resultLayout = new VBox(20);
+		resultLayout.setPadding(new Insets(30));
+		resultLayout.setAlignment(Pos.CENTER);
+		resultLayout.setStyle("-fx-background-color: #2E2E2E; -fx-border-color: #FFD700; -fx-border-width: 2px;");
+
+		// Add a title label
+		Label titleLabel = new Label("Final Game Results");
+		titleLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #FFD700;");
+
+		// Add player and computer scores
+		Label playerResultLabel = new Label("Player Score: " + playerScore);
+		playerResultLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #FFFFFF; -fx-font-weight: bold;");
+
+		Label computerResultLabel = new Label("Computer Score: " + computerScore);
+		computerResultLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: #FFFFFF; -fx-font-weight: bold;");
+
+		// Determine the winner
+		Label winnerLabel = new Label();
+		if (playerScore > computerScore) {
+			winnerLabel.setText("Winner: Player!");
+			winnerLabel.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: #00FF00;"); // Green text
+		} else if (computerScore > playerScore) {
+			winnerLabel.setText("Winner: Computer!");
+			winnerLabel.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: #FF4500;"); // Red text
+		} else {
+			winnerLabel.setText("It's a tie!");
+			winnerLabel.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-text-fill: #FFFF00;"); // Yellow text
+		}
+
+		// Add a button to return to the main scene
+		Button backButton = new Button("Back to Main Menu");
+		backButton.setStyle(
+				"-fx-background-color: #FFD700; -fx-font-weight: bold; -fx-text-fill: black; -fx-padding: 10px;");
+		backButton.setOnAction(e -> primaryStage.setScene(createScene(primaryStage, null)));
+
+		// Add all elements to the layout
+		resultLayout.getChildren().addAll(titleLabel, playerResultLabel, computerResultLabel, winnerLabel, backButton);
+
+		// Create and set the new scene
+		Scene resultScene = new Scene(resultLayout, 800, 600);
+		primaryStage.setScene(resultScene);
+	}
+
+	// Streams the table, the moves played and each player's coins next to the chosen file, as
+	// <name>-table, <name>-moves and <name>-coins; the format follows the chosen extension
+	private void exportBoard(Stage primaryStage, SolvedBoard board, Button exportButton) {
+		FileChooser chooser = new FileChooser();
+		chooser.setTitle("Export DP Table and Moves");
+		chooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("CSV", "*.csv"),
+				new FileChooser.ExtensionFilter("Binary", "*.bin"));
+		chooser.setInitialFileName("game.csv");
+		File file = chooser.showSaveDialog(primaryStage);
+		if (file == null) {
+			return;
+		}
+		String name = file.getName();
+		boolean binaryFilter = chooser.getSelectedExtensionFilter() != null
+				&& chooser.getSelectedExtensionFilter().getDescription().equals("Binary");
+		boolean csv = name.endsWith(".csv") || !name.endsWith(".bin") && !binaryFilter; // A typed extension wins
+		String extension = csv ? ".csv" : ".bin";
+		String prefix = name.contains(".") ? name.substring(0, name.lastIndexOf('.')) : name;
+		Path dir = file.getAbsoluteFile().toPath().getParent();
+		int[] played = playedMoves();
+
+		Task<Void> task = new Task<Void>() {
+			@Override
+			protected Void call() throws IOException {
+				Path table = dir.resolve(prefix + "-table" + extension);
+				Path moves = dir.resolve(prefix + "-moves" + extension);
+				Path coins = dir.resolve(prefix + "-coins" + extension);
+				if (csv) {
+					GameExporter.writeTableCsv(board, table);
+					GameExporter.writeMovesCsv(board, played, moves);
+					GameExporter.writeCoinsCsv(board, played, coins);
+				} else {
+					GameExporter.writeTableBinary(board, table);
+					GameExporter.writeMovesBinary(board, played, moves);
+					GameExporter.writeCoinsBinary(board, played, coins);
+				}
+				return null;
+			}
+		};
+		exportButton.setDisable(true); // One export at a time; large tables take a while
+		task.setOnSucceeded(e -> exportButton.setDisable(false));
+		task.setOnFailed(e -> {
+			exportButton.setDisable(false);
+			new Alert(Alert.AlertType.ERROR, "Export failed: " + task.getException().getMessage()).showAndWait();
+		});
+		BackgroundWork.start(task);
+	}
+
+	// Coin indices in the order they were taken
+	private int[] playedMoves() {
+		int[] played = new int[currentStepIndex];
+		for (int k = 0; k < currentStepIndex; k++) {
+			played[k] = steps[k].index;
+		}
+		return played;
+	}
+
+	private void showDpTable(Stage primaryStage, SolvedBoard board, Scene currentScene) {
+		int n = board.size();
+
+		// back button
+		Button backButton = new Button("Back");
+		backButton.setStyle(
+				"-fx-background-color: #FFD700; -fx-font-weight: bold; -fx-text-fill: black; -fx-padding: 10px;");
+		backButton.setOnAction(e -> {
+			try {
+				primaryStage.setScene(currentScene);
+			} catch (Exception ex) {
+				ex.printStackTrace(); // Log errors
+				Alert alert = new Alert(Alert.AlertType.ERROR, "An error occurred. Please restart the game.");
+				alert.showAndWait();
+			}
+		});
+
+		// Large boards get the canvas viewer and heatmap; neither depends on n
+		Region content = n <= TABLE_VIEW_LIMIT ? createTableView(board) : createLargeTableView(board);
+		if (SolveTrace.ENABLED) { // Started with -Doptimalgame.trace=true
+			TabPane tabs = content instanceof TabPane ? (TabPane) content : new TabPane(new Tab("Table", content));
+			tabs.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+			tabs.getTabs().add(new Tab("Trace", createTraceView()));
+			content = tabs;
+		}
+		VBox.setVgrow(content, Priority.ALWAYS);
+
+		Button exportButton = new Button("Export...");
+		exportButton.setStyle(backButton.getStyle());
+		exportButton.setOnAction(e -> exportBoard(primaryStage, board, exportButton));
+		HBox buttons = new HBox(10, backButton, exportButton);
+		buttons.setAlignment(Pos.CENTER);
+
+		// Layout for the table and buttons
+		VBox layout = new VBox(10, content, buttons);
+		layout.setPadding(new Insets(20));
+		layout.setAlignment(Pos.CENTER);
+		layout.setStyle(
+				"-fx-background-color: #1E1E1E; -fx-padding: 15px; -fx-border-radius: 10px; -fx-border-color: #FFD700;");
+
+		// Set up the scene and display
+		Scene scene = new Scene(layout, 900, 600);
+		primaryStage.setScene(scene);
+
+	}
+
+	// Tabs with the virtualized canvas table and a downsampled heatmap of the whole board
+	private Region createLargeTableView(SolvedBoard board) {
+		Tab tableTab = new Tab("Table", new DPTableCanvas(board));
+		ImageView heatmap = new ImageView(DPHeatmap.render(board, HEATMAP_SIZE, HEATMAP_SIZE));
+		heatmap.setPreserveRatio(true);
+		heatmap.setFitWidth(480);
+		StackPane heatmapPane = new StackPane(heatmap);
+		heatmapPane.setStyle("-fx-background-color: #1E1E1E;");
+		Tab heatmapTab = new Tab("Heatmap", heatmapPane);
+
+		TabPane tabs = new TabPane(tableTab, heatmapTab);
+		tabs.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+		return tabs;
+	}
+
+	// Recorded solver and move events, with a step-by-step replay for teaching
+	private Region createTraceView() {
+		SolveTrace trace = SolveTrace.global();
+		ListView<SolveTrace.Event> events = new ListView<>(FXCollections.observableArrayList(trace.snapshot()));
+		events.setStyle("-fx-control-inner-background: #1E1E1E; -fx-font-size: 14px;");
+
+		Label summary = new Label(trace.size() + " events" + (trace.getDropped() > 0
+				? " (" + trace.getDropped() + " older events overwritten)" : ""));
+		summary.setStyle("-fx-text-fill: #FFD700; -fx-font-weight: bold;");
+
+		Button replayButton = createStyledButton("Replay");
+		PauseTransition pause = new PauseTransition(Duration.millis(300));
+		pause.setOnFinished(event -> {
+			int next = events.getSelectionModel().getSelectedIndex() + 1;
+			if (next < events.getItems().size()) {
+				events.getSelectionModel().select(next);
+				events.scrollTo(Math.max(0, next - 5));
+				pause.playFromStart(); // Continue to the next event
+			}
+		});
+		replayButton.setOnAction(e -> {
+			events.getSelectionModel().clearSelection();
+			pause.playFromStart();
+		});
+
+		Button dumpButton = createStyledButton("Dump to Console");
+		dumpButton.setOnAction(e -> {
+			try {
+				trace.dump(System.out);
+			} catch (IOException ex) {
+				ex.printStackTrace(); // System.out does not throw, but Appendable says it may
+			}
+		});
+
+		HBox buttons = new HBox(10, summary, replayButton, dumpButton);
+		buttons.setAlignment(Pos.CENTER_LEFT);
+		VBox.setVgrow(events, Priority.ALWAYS);
+		VBox layout = new VBox(10, buttons, events);
+		layout.setPadding(new Insets(10));
+		layout.setStyle("-fx-background-color: #1E1E1E;");
+		return layout;
+	}
+
+	private TableView<DPRow> createTableView(SolvedBoard board) {
+		int n = board.size();
+		DPCellFormatter formatter = new DPCellFormatter(board);
+
+		// TableView for displaying the DP Table
+		TableView<DPRow> tableView = new TableView<>();
+		tableView.setStyle(
+				"-fx-background-color: #1E1E1E; -fx-border-color: #FFD700; -fx-border-width: 2px; -fx-padding: 10px;");
+
+		// First column: Row indices
+		TableColumn<DPRow, Integer> indexColumn = new TableColumn<>("Index");
+		indexColumn
+				.setCellValueFactory(cellData -> new SimpleIntegerProperty(cellData.getValue().getIndex()).asObject());
+		indexColumn.setMinWidth(70);
+		indexColumn
+				.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #FFD700; -fx-alignment: CENTER;");
+		tableView.getColumns().add(indexColumn);
+
+		// Add additional columns dynamically for coins indices
+		for (int j = 0; j < n; j++) {
+			final int columnIndex = j;
+			TableColumn<DPRow, String> column = new TableColumn<>(" " + j);
+			column.setCellValueFactory(
+					cellData -> new SimpleStringProperty(cellData.getValue().getValueAt(columnIndex)));
+			column.setMinWidth(100);
+			column.setStyle(
+					"-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: #FFD700; -fx-alignment: CENTER;");
+			tableView.getColumns().add(column);
+		}
+
+		// Populate the table data for meaningful rows only
+		ObservableList<DPRow> rows = FXCollections.observableArrayList();
+		for (int i = 0; i < n; i++) {
+			rows.add(new DPRow(i, formatter)); // Cells are formatted lazily as they are shown
+
+		}
+		tableView.setItems(rows);
+
+		// Styling for table rows
+		tableView.setRowFactory(tv -> {
+			TableRow<DPRow> row = new TableRow<>();
+			row.setStyle(
+					"-fx-background-color: #3E3E3E; -fx-border-color: #FFD700; -fx-border-width: 1px; -fx-padding: 5px;");
+			return row;
+		});
+
+		// Header styling
+		tableView.setStyle("-fx-table-cell-border-color: #FFD700; " + "-fx-control-inner-background: #1E1E1E; "
+				+ "-fx-background-color: #1E1E1E; " + "-fx-border-radius: 5px; -fx-padding: 15px;");
+		return tableView;
+	}
+
+	private Button createStyledButton(String text) {
+		Button button = new Button(text);
+		button.setStyle(
+				"-fx-background-color: #FFD700; -fx-font-weight: bold; -fx-border-color: #DAA520; -fx-text-fill: black;");
+		return button;
+	}
+
+	// Helper class to store steps
+	private static class Move {
+		boolean isPlayer;
+		int index;
+		int value;
+
+		Move(boolean isPlayer, int index, int value) {
+			this.isPlayer = isPlayer;
+			this.index = index;
+			this.value = value;
+		}
+	}
+}
@@ -1,10 +1,13 @@
 package application;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.control.TextFormatter;
@@ -16,7 +19,8 @@ import javafx.util.converter.IntegerStringConverter;
 
 public class RandomScene {
 	private Label rangeLb, numOfCoinsLb, errorLabel;
-	private TextField rangeFromTf, rangeToTf, numOfCoinsTf, generatedNumbersTf;
+	private TextField rangeFromTf, rangeToTf, numOfCoinsTf, generatedNumbersTf, seedTf;
+	private ComboBox<BoardGenerator.Distribution> distributionCb;
 	private Button okBt, backBt, nextBt;
 	private int[] generatedNumbers; // Array to store generated numbers
 
@@ -58,9 +62,23 @@ public class RandomScene {
 		// Apply even-integer-only restriction for number of coins field
 		setEvenIntegerOnly(numOfCoinsTf);
 
+		// Seed (blank picks one and shows it, so any board can be generated again) and distribution
+		Label seedLb = new Label("Seed and Distribution:");
+		seedLb.setStyle("-fx-font-size: 16px; -fx-text-fill: #FFFFFF;");
+		seedTf = new TextField();
+		seedTf.setPrefColumnCount(8);
+		seedTf.setPromptText("random");
+		seedTf.setStyle("-fx-background-color: #333; -fx-text-fill: white; -fx-padding: 5px;");
+		seedTf.setTextFormatter(new TextFormatter<>(change -> change.getControlNewText().matches("-?\\d*") ? change : null));
+		distributionCb = new ComboBox<>();
+		distributionCb.getItems().addAll(BoardGenerator.Distribution.values());
+		distributionCb.setValue(BoardGenerator.Distribution.UNIFORM);
+		HBox seedHbox = new HBox(10, seedTf, distributionCb);
+		seedHbox.setAlignment(Pos.CENTER);
+
 		// TextField to display generated numbers
 		generatedNumbersTf = new TextField();
-		generatedNumbersTf.setPromptText("Generated numbers will appear here");
+		generatedNumbersTf.setPromptText("Generated numbers will appear here (first " + CoinPreview.DEFAULT_LIMIT + ")");
 		generatedNumbersTf.setEditable(false);
 		generatedNumbersTf
 				.setStyle("-fx-background-color: #333; -fx-text-fill: white; -fx-font-size: 14px; -fx-padding: 10px;");
@@ -95,6 +113,8 @@ public class RandomScene {
 		inputGrid.add(rangeHbox, 1, 0);
 		inputGrid.add(numOfCoinsLb, 0, 1);
 		inputGrid.add(numOfCoinsTf, 1, 1);
+		inputGrid.add(seedLb, 0, 2);
+		inputGrid.add(seedHbox, 1, 2);
 		inputGrid.add(errorLabel, 1, 3);
 
 		// HBox for Buttons
@@ -126,7 +146,7 @@ public class RandomScene {
 		mainLayout.setPadding(new Insets(20));
 		mainLayout.setStyle("-fx-background-color: #2F4F4F;");
 
-		return new Scene(mainLayout, 600, 400);
+		return new Scene(mainLayout, 650, 450);
 	}
 
 	// Method to restrict input to integers only
@@ -203,26 +223,39 @@ public class RandomScene {
 	        int min = Integer.parseInt(rangeFromTf.getText());
 	        int max = Integer.parseInt(rangeToTf.getText());
 	        int numOfCoins = Integer.parseInt(numOfCoinsTf.getText());
-
-	        generatedNumbers = new int[numOfCoins];
-	        Random random = new Random();
-	        StringBuilder generatedText = new StringBuilder();
-
-	        // Generate random numbers and format them into groups of 5 per line
-	        for (int i = 0; i < numOfCoins; i++) {
-	            generatedNumbers[i] = random.nextInt(max - min + 1) + min;
-	            generatedText.append(generatedNumbers[i]);
-
-	            // Add comma between numbers, except after the last number
-	            if (i < numOfCoins - 1) {
-	                generatedText.append(", ");
-	            }
+	        long seed;
+	        try {
+	            seed = seedTf.getText().isEmpty() ? new SplittableRandom().nextLong() : Long.parseLong(seedTf.getText());
+	        } catch (NumberFormatException e) {
+	            errorLabel.setText("Seed must be a whole number.");
+	            nextBt.setDisable(true);
+	            return;
 	        }
-
-	        // Display numbers in TextField
-	        generatedNumbersTf.setText(generatedText.toString());
-	        errorLabel.setText(""); // Clear error
-	        nextBt.setDisable(false); // Enable Next button if generation is successful
+	        seedTf.setText(String.valueOf(seed)); // Keep the seed visible so the board can be reproduced
+	        BoardGenerator generator = new BoardGenerator(distributionCb.getValue(), min, max, seed);
+
+	        // Large boards are filled in parallel chunks off the FX thread
+	        okBt.setDisable(true);
+	        nextBt.setDisable(true);
+	        Task<int[]> task = new Task<int[]>() {
+	            @Override
+	            protected int[] call() {
+	                return generator.generate(numOfCoins);
+	            }
+	        };
+	        task.setOnSucceeded(e -> {
+	            generatedNumbers = task.getValue();
+	            // Display a bounded preview; the board itself is never turned into one big String
+	            generatedNumbersTf.setText(CoinPreview.format(generatedNumbers));
+	            errorLabel.setText(""); // Clear error
+	            okBt.setDisable(false);
+	            nextBt.setDisable(false); // Enable Next button if generation is successful
+	        });
+	        task.setOnFailed(e -> {
+	            errorLabel.setText("Could not generate the coins: " + task.getException().getMessage());
+	            okBt.setDisable(false);
+	        });
+	        BackgroundWork.start(task);
 	    } else {
 	        errorLabel.setText("Please fill all fields and ensure the range is valid.");
 	        nextBt.setDisable(true); // Disable Next button if there is an error
@@ -1,13 +1,14 @@
 package application;
 
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 public class TwoPlayersScene {
@@ -23,11 +24,15 @@ public class TwoPlayersScene {
     private VBox playerTwoScoreBox;
     private Label playerOneTotalScore;
     private Label playerTwoTotalScore;
-    private VBox playerOneCoinsBox;
-    private VBox playerTwoCoinsBox;
+    private CollectedCoinsList playerOneCoinsBox; // Virtualized; only visible rows have cells
+    private CollectedCoinsList playerTwoCoinsBox;
+    private CoinStrip coinStrip; // All coins on one canvas
     private int startIndex = 0; // Initial edge index
     private int endIndex; // Ending edge index
     private Button playAgainBt;
+    private Label hintLabel; // Live optimal-move hint and the cost of the last move
+    private MoveOracle oracle; // O(1) best move / value lost for any [startIndex, endIndex]; null until solved
+    private Task<SolvedBoard> hintTask; // Background solve behind the hints, cancelled by Play Again
     private PlayingWayScene playingWayScene; // Reference to PlayingWayScene
     private OptimalGameInterface mainGameScene;
 
@@ -55,18 +60,27 @@ public class TwoPlayersScene {
         isPlayerOneTurn = firstPlayer.equals(playerOneName);
         System.out.println("Is Player One's Turn? " + isPlayerOneTurn);
 
+        // Solve the board once in the background (shared cache); every hint afterwards is a table
+        // lookup. The game itself never waits for it, and boards too large for a table get no hints.
+        hintLabel = new Label();
+        hintLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: #FFFFFF;");
+        if (hintsAffordable(coins.length)) {
+            hintLabel.setText("Computing hints...");
+            startHintSolve();
+        }
+
         // Add scoreboxes
         Label playerOneTitle = new Label(playerOneName + " Score:");
         playerOneTitle.setStyle("-fx-font-size: 18px; -fx-text-fill: #00FF00;");
         playerOneTotalScore = new Label("Total: 0");
         playerOneTotalScore.setStyle("-fx-font-size: 18px; -fx-text-fill: #00FF00;");
-        playerOneCoinsBox = new VBox(5);
+        playerOneCoinsBox = new CollectedCoinsList("#98FB98", "#2F4F4F");
 
         Label playerTwoTitle = new Label(playerTwoName + " Score:");
         playerTwoTitle.setStyle("-fx-font-size: 18px; -fx-text-fill: #0000FF;");
         playerTwoTotalScore = new Label("Total: 0");
         playerTwoTotalScore.setStyle("-fx-font-size: 18px; -fx-text-fill: #0000FF;");
-        playerTwoCoinsBox = new VBox(5);
+        playerTwoCoinsBox = new CollectedCoinsList("#ADD8E6", "#2F4F4F");
 
         playerOneScoreBox = new VBox(10, playerOneTitle, playerOneCoinsBox, playerOneTotalScore);
         playerOneScoreBox.setAlignment(Pos.CENTER);
@@ -75,27 +89,21 @@ public class TwoPlayersScene {
 
         playerTwoScoreBox.setPadding(new Insets(20));
 
-        // Coin container using GridPane
-        GridPane coinGrid = new GridPane();
-        coinGrid.setAlignment(Pos.CENTER);
-        coinGrid.setHgap(10);
-        coinGrid.setVgap(10);
-
-        for (int i = 0; i < coins.length; i++) {
-            Button coinButton = createCoinButton(coins[i], i);
-            coinGrid.add(coinButton, i % 10, i / 10); // Place buttons in rows of 8
-        }
+        // Coin strip: one canvas, clicks are hit-tested to a coin index
+        coinStrip = new CoinStrip(coins, Color.web("#00FF00"), Color.web("#0000FF"), Color.web("#2F4F4F"));
+        coinStrip.setOnCoinClicked(this::handleCoinClick);
 
         playAgainBt = new Button("Play Again");
         playAgainBt.setStyle("-fx-background-color: #32CD32; -fx-text-fill: white; -fx-font-weight: bold; -fx-font-size: 16px;");
         playAgainBt.setOnAction(e -> {
+            BackgroundWork.cancel(hintTask);
             PlayerNamesInputScene playerNamesInputScene = new PlayerNamesInputScene(coins, mainGameScene);
             primaryStage.setScene(playerNamesInputScene.createScene(primaryStage, mainGameScene, playingWayScene)); // Pass the PlayingWayScene instance
         });
 
         playAgainBt.setVisible(false); // Initially hidden until the game ends
 
-        VBox mainCenterLayout = new VBox(20, currentPlayerLabel, coinGrid);
+        VBox mainCenterLayout = new VBox(20, currentPlayerLabel, hintLabel, coinStrip);
         mainCenterLayout.setAlignment(Pos.CENTER);
 
         BorderPane mainLayout = new BorderPane();
@@ -110,33 +118,25 @@ public class TwoPlayersScene {
         return new Scene(mainLayout, 1000, 600);
     }
 
-    private Button createCoinButton(int coinValue, int index) {
-        Button coinButton = new Button(String.valueOf(coinValue));
-        coinButton.setStyle("-fx-background-color: #FFD700; -fx-text-fill: black; -fx-font-weight: bold;-fx-background-radius: 25; ");
-        coinButton.setPrefSize(50, 50);
-
-        coinButton.setOnMouseClicked(event -> handleCoinClick(index, coinButton));
-        return coinButton;
-    }
-
-    private void handleCoinClick(int index, Button coinButton) {
-        if (index != startIndex && index != endIndex) return;
+    private void handleCoinClick(int index) {
+        if (startIndex > endIndex || (index != startIndex && index != endIndex)) return;
 
         int selectedValue = coins[index];
+        int lost = oracle == null ? 0
+                : oracle.valueLost(startIndex, endIndex, index == startIndex ? MoveOracle.LEFT : MoveOracle.RIGHT);
+        String mover = isPlayerOneTurn ? playerOneName : playerTwoName;
 
         if (isPlayerOneTurn) {
             playerOneScore += selectedValue;
             playerOneTotalScore.setText("Total: " + playerOneScore);
-            addCoinToVBox(playerOneCoinsBox, selectedValue, true);
-            coinButton.setStyle("-fx-background-color: #00FF00; -fx-text-fill: white; -fx-font-weight: bold;");
+            playerOneCoinsBox.add(selectedValue);
         } else {
             playerTwoScore += selectedValue;
             playerTwoTotalScore.setText("Total: " + playerTwoScore);
-            addCoinToVBox(playerTwoCoinsBox, selectedValue, false);
-            coinButton.setStyle("-fx-background-color: #0000FF; -fx-text-fill: white; -fx-font-weight: bold;");
+            playerTwoCoinsBox.add(selectedValue);
         }
 
-        coinButton.setDisable(true);
+        coinStrip.take(index, isPlayerOneTurn); // Repaints only this coin
 
         if (index == startIndex) {
             startIndex++;
@@ -149,14 +149,43 @@ public class TwoPlayersScene {
 
         if (startIndex > endIndex) {
             defineTheWinner();
+        } else if (oracle != null) {
+            updateHint(lost > 0 ? mover + "'s last move cost " + lost + " coins. " : null);
         }
     }
 
-    private void addCoinToVBox(VBox vbox, int coinValue, boolean isPlayerOne) {
-        Label coinLabel = new Label(String.valueOf(coinValue));
-        String color = isPlayerOne ? "#98FB98" : "#ADD8E6";
-        coinLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: " + color + ";");
-        vbox.getChildren().add(coinLabel);
+    // The margin table needs 4 bytes per cell and int indexing; keep it to a quarter of the heap
+    private static boolean hintsAffordable(int n) {
+        long cells = PackedDPTable.cellCount(n);
+        return cells <= Integer.MAX_VALUE - 8 && cells * Integer.BYTES <= Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    private void startHintSolve() {
+        Task<SolvedBoard> task = new Task<SolvedBoard>() {
+            @Override
+            protected SolvedBoard call() {
+                return GameSolverService.shared().solve(coins, (done, total) -> !isCancelled());
+            }
+        };
+        task.setOnSucceeded(e -> {
+            oracle = new MoveOracle(task.getValue());
+            if (startIndex <= endIndex) {
+                updateHint(null); // Hints pick up from wherever the game is now
+            }
+        });
+        task.setOnFailed(e -> {
+            task.getException().printStackTrace();
+            hintLabel.setText(""); // Hints are off; the game carries on without them
+        });
+        hintTask = BackgroundWork.start(task);
+    }
+
+    private void updateHint(String lastMoveNote) {
+        int best = oracle.bestIndex(startIndex, endIndex);
+        String side = best == startIndex ? "left" : "right";
+        String current = isPlayerOneTurn ? playerOneName : playerTwoName;
+        hintLabel.setText((lastMoveNote == null ? "" : lastMoveNote) + "Hint: " + current + " should take the "
+                + side + " coin (" + coins[best] + ") to collect " + oracle.bestScore(startIndex, endIndex) + " more");
     }
 
     private void defineTheWinner() {
@@ -175,6 +204,8 @@ public class TwoPlayersScene {
             currentPlayerLabel.setText("" + winner);
         }
 
+        BackgroundWork.cancel(hintTask); // No more hints to give
+        hintLabel.setText("");
         playAgainBt.setVisible(true); // Show the Play Again button
     }
 }